@@ -0,0 +1,112 @@
+package target;
+
+import com.sun.net.httpserver.HttpServer;
+import configuration.Config;
+import io.github.cdimascio.dotenv.Dotenv;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import monitoring.Monitor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ExecutionModeBenchmark {
+    private static final int CALLS = 500;
+
+    @Param({ "reactive", "blocking" })
+    public String executionMode;
+
+    @Param({ "5" })
+    public int targetLatency;
+
+    private HttpServer server;
+    private HttpTarget target;
+    private ConsumerRecord<String, byte[]> record;
+
+    @Setup
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(
+            "/consume",
+            exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(targetLatency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            }
+        );
+        server.start();
+
+        var env = Map.of(
+            "KAFKA_BROKER",
+            "localhost:9092",
+            "TOPICS",
+            "benchmark",
+            "GROUP_ID",
+            "benchmark",
+            "SENDING_PROTOCOL",
+            "http",
+            "TARGET",
+            "127.0.0.1:" + server.getAddress().getPort() + "/consume",
+            "EXECUTION_MODE",
+            executionMode
+        );
+        Config.init(
+            new Dotenv() {
+
+                @Override
+                public String get(String name) {
+                    return env.get(name);
+                }
+            }
+        );
+        Monitor.init();
+        var targetConfig = Config.TARGETS.get("default");
+        target = new HttpTarget(
+            targetConfig,
+            new TargetRetryPolicy(null, null, null, new RetryScheduler(), null),
+            new ConcurrencyLimiter(targetConfig)
+        );
+        record = new ConsumerRecord<>("benchmark", 0, 0, "key", new byte[100]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void call() {
+        var calls = new CompletableFuture<?>[CALLS];
+        for (var i = 0; i < CALLS; i++) {
+            calls[i] = target.call(record);
+        }
+        CompletableFuture.allOf(calls).join();
+    }
+}
@@ -0,0 +1,53 @@
+package target;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class RecordHeadersBenchmark {
+    @Param({ "0", "4", "16" })
+    public int headerCount;
+
+    private RecordHeaders headers;
+
+    @Setup
+    public void setup() {
+        headers = new RecordHeaders();
+        for (var i = 0; i < headerCount; i++) {
+            headers.add("header-" + i, ("value-" + i + "-0123456789abcdef").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public String encoder() {
+        return RecordHeadersEncoder.toJson(headers);
+    }
+
+    @Benchmark
+    public String jsonObject() {
+        var json = new JSONObject();
+        for (Header header : headers) {
+            json.put(header.key(), header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8));
+        }
+        return json.toString();
+    }
+}
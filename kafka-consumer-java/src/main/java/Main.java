@@ -1,26 +1,49 @@
 import configuration.*;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import kafka.*;
 import monitoring.*;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.common.TopicPartition;
 import reactor.core.Disposable;
+import reactor.core.Disposables;
 import target.*;
 
 public class Main {
     static Disposable consumer;
     static MonitoringServer monitoringServer;
+    static RateLimiter rateLimiter;
+    static RetryScheduler retryScheduler;
+    static RetryStore retryStore;
+    static DeliveryCache deliveryCache;
+    static List<TargetCircuitBreaker> circuitBreakers = new ArrayList<>();
+    static BackpressureController backpressure;
     static CountDownLatch latch = new CountDownLatch(1);
 
     public static void main(String[] args) {
         try {
             Config.init();
             Monitor.init();
+            Monitor.startupPhase("initialized");
 
-            monitoringServer = new MonitoringServer(waitForTargetToBeAlive()).start();
-            consumer = createConsumer(monitoringServer);
+            rateLimiter = new RateLimiter();
+            retryScheduler = new RetryScheduler();
+            retryStore = Config.RETRY_STORE_DIRECTORY == null ? null : new RetryStore();
+            deliveryCache = Config.DEDUP_CACHE.equals("none") ? null : new DeliveryCache();
+            var targetIsAlive = new TargetIsAlive();
+            backpressure = Config.BACKPRESSURE_ENABLED ? new BackpressureController() : null;
+            if (backpressure != null) {
+                backpressure.onThrottle(() -> rateLimiter.throttle(Config.BACKPRESSURE_RATE_PERCENT));
+                backpressure.onRelief(rateLimiter::unthrottle);
+            }
+            monitoringServer = new MonitoringServer(targetIsAlive, rateLimiter).start();
+            consumer = createConsumers(monitoringServer, waitForTargetToBeAlive(targetIsAlive));
             onShutdown(consumer, monitoringServer);
 
             Monitor.started();
@@ -31,44 +54,106 @@ public class Main {
         Monitor.serviceTerminated();
     }
 
-    private static TargetIsAlive waitForTargetToBeAlive() throws InterruptedException, IOException {
-        var targetIsAlive = new TargetIsAlive();
-        do {
-            System.out.printf("waiting for target to be alive %s%n", targetIsAlive.getEndpoint());
-            Thread.sleep(1000);
-        } while (!targetIsAlive.check());
-        System.out.println("target is alive");
-        return targetIsAlive;
-    }
-
-    private static Disposable createConsumer(MonitoringServer monitoringServer) {
-        return new Consumer(
-            new ReactiveKafkaClient<String, String>(
-                new KafkaClientFactory().createConsumer(),
-                Config.TOPICS,
-                new ConsumerRebalanceListener() {
-
-                    @Override
-                    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-                        Monitor.assignedToPartition(partitions);
-                        monitoringServer.consumerAssigned();
+    private static CompletableFuture<Void> waitForTargetToBeAlive(TargetIsAlive targetIsAlive) {
+        return CompletableFuture.runAsync(
+            () -> {
+                try {
+                    var delay = Config.TARGET_IS_ALIVE_BACKOFF.get(0);
+                    var maxDelay = Config.TARGET_IS_ALIVE_BACKOFF.get(1);
+                    var delayFactor = Config.TARGET_IS_ALIVE_BACKOFF.get(2);
+                    while (!targetIsAlive.check()) {
+                        System.out.printf("waiting for target to be alive %s%n", targetIsAlive.getEndpoint());
+                        Thread.sleep(delay);
+                        delay = Math.min(maxDelay, delay * delayFactor);
                     }
+                    System.out.println("target is alive");
+                    Monitor.startupPhase("target_alive");
+                } catch (InterruptedException | IOException e) {
+                    throw new CompletionException(e);
+                }
+            },
+            runnable -> new Thread(runnable, "target-is-alive").start()
+        );
+    }
 
-                    @Override
-                    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                        Monitor.revokedFromPartition(partitions);
-                    }
+    private static Disposable createConsumers(MonitoringServer monitoringServer, CompletableFuture<Void> targetAlive) {
+        var producer = new Producer(new KafkaClientFactory().createProducer());
+        var target = TargetFactory.create(
+            (targetConfig, targetCircuitBreaker) -> {
+                if (targetCircuitBreaker != null) {
+                    circuitBreakers.add(targetCircuitBreaker);
                 }
-            ),
-            TargetFactory.create(
-                new TargetRetryPolicy(
-                    new Producer(new KafkaClientFactory().createProducer()),
+                return new TargetRetryPolicy(
+                    producer,
                     Config.RETRY_TOPIC,
-                    Config.DEAD_LETTER_TOPIC
-                )
+                    Config.DEAD_LETTER_TOPIC,
+                    retryScheduler,
+                    retryStore,
+                    targetConfig.retryPolicyExponentialBackoff,
+                    targetCircuitBreaker,
+                    backpressure
+                );
+            }
+        );
+        var targetReady = targetAlive
+            .thenCompose(
+                __ -> target.warmUp().completeOnTimeout(null, Config.TARGET_WARM_UP_TIMEOUT, TimeUnit.MILLISECONDS)
             )
+            .whenComplete(
+                (__, exception) -> {
+                    if (exception != null) {
+                        Monitor.initializationError(exception);
+                        return;
+                    }
+                    Monitor.startupPhase("target_warm_up");
+                }
+            );
+        var consumers = Disposables.composite();
+        for (var i = 0; i < Config.CONSUMER_THREADS; i++) {
+            consumers.add(createConsumer(i, target, i == 0 ? retryStore : null, targetReady, monitoringServer));
+        }
+        return consumers;
+    }
+
+    private static Disposable createConsumer(
+        int consumerIndex,
+        ITarget target,
+        RetryStore retryStore,
+        CompletableFuture<Void> targetReady,
+        MonitoringServer monitoringServer
+    ) {
+        var kafkaConsumer = new ReactiveKafkaClient<String, byte[]>(
+            new KafkaClientFactory().createConsumer(consumerIndex),
+            Config.TOPICS,
+            new ConsumerRebalanceListener() {
+
+                @Override
+                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                    Monitor.assignedToPartition(partitions);
+                    Monitor.startupPhase("partitions_assigned");
+                    monitoringServer.consumerAssigned(consumerIndex);
+                }
+
+                @Override
+                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                    Monitor.revokedFromPartition(partitions);
+                }
+            }
+        );
+        for (var circuitBreaker : circuitBreakers) {
+            circuitBreaker.onOpen(kafkaConsumer::suspend);
+            circuitBreaker.onClose(kafkaConsumer::restore);
+        }
+
+        return new Consumer(
+            kafkaConsumer,
+            target,
+            rateLimiter,
+            retryScheduler,
+            retryStore,
+            deliveryCache
         )
-            .stream()
+            .stream(targetReady)
             .doOnError(
                 e -> {
                     Monitor.consumerError(e);
@@ -77,11 +162,11 @@ public class Main {
             .subscribe(
                 __ -> {},
                 exception -> {
-                    monitoringServer.consumerDisposed();
+                    monitoringServer.consumerDisposed(consumerIndex);
                     Monitor.consumerError(exception);
                 },
                 () -> {
-                    monitoringServer.consumerDisposed();
+                    monitoringServer.consumerDisposed(consumerIndex);
                     Monitor.consumerCompleted();
                 }
             );
@@ -2,12 +2,17 @@ package configuration;
 
 import io.github.cdimascio.dotenv.Dotenv;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class Config {
@@ -26,12 +31,66 @@ public class Config {
     public static int MAX_POLL_RECORDS;
     public static int PROCESSING_DELAY;
     public static int SESSION_TIMEOUT;
+    public static boolean STATIC_MEMBERSHIP;
+    public static String GROUP_INSTANCE_ID;
+    public static String PARTITION_ASSIGNMENT_STRATEGY;
+    public static int REVOKE_DRAIN_TIMEOUT;
     public static String RETRY_TOPIC;
     public static String DEAD_LETTER_TOPIC;
     public static String RETRY_PROCESS_WHEN_STATUS_CODE_MATCH;
     public static String PRODUCE_TO_RETRY_TOPIC_WHEN_STATUS_CODE_MATCH;
     public static String PRODUCE_TO_DEAD_LETTER_TOPIC_WHEN_STATUS_CODE_MATCH;
+    public static StatusCodeAction[] STATUS_CODE_ACTIONS;
+    public static boolean RETRY_PARKING;
+    public static int RETRY_TIMER_TICK;
+    public static int RETRY_TIMER_WHEEL_SIZE;
+    public static String RETRY_STORE_DIRECTORY;
+    public static int RETRY_STORE_MAX_BYTES;
+    public static int RETRY_STORE_SEGMENT_BYTES;
+    public static List<Integer> RETRY_STORE_BACKOFF;
+    public static int RETRY_STORE_MAX_ATTEMPTS;
+    public static int RETRY_STORE_MAX_IN_FLIGHT;
+    public static int RETRY_STORE_POLL_INTERVAL;
     public static List<Integer> RETRY_POLICY_EXPONENTIAL_BACKOFF;
+    public static int TARGET_MAX_IN_FLIGHT;
+    public static Map<String, TargetConfig> TARGETS;
+    public static Map<String, String> TARGET_ROUTES;
+    public static int CONSUMER_THREADS;
+    public static String EXECUTION_MODE;
+    public static RecordFilter RECORD_FILTER;
+    public static String DEDUP_CACHE;
+    public static String DEDUP_CACHE_HEADER;
+    public static int DEDUP_CACHE_SIZE;
+    public static int DEDUP_CACHE_TTL;
+    public static int TARGET_HTTP_CLIENT_THREADS;
+    public static int TARGET_GRPC_CHANNEL_THREADS;
+    public static int TARGET_COMPLETION_THREADS;
+    public static int BLOCKING_MAX_IN_FLIGHT;
+    public static String ORDERING_MODE;
+    public static int ORDERING_KEY_SLOTS;
+    public static String PROCESSING_MODE;
+    public static int MAX_IN_FLIGHT_PER_PARTITION;
+    public static int COMMIT_INTERVAL;
+    public static int RATE_LIMIT_RECORDS_PER_SECOND;
+    public static int RATE_LIMIT_BYTES_PER_SECOND;
+    public static int RATE_LIMIT_BURST;
+    public static Map<String, Integer> RATE_LIMIT_TOPIC_RECORDS_PER_SECOND;
+    public static Map<String, Integer> RATE_LIMIT_TOPIC_BYTES_PER_SECOND;
+    public static boolean ADAPTIVE_CONCURRENCY;
+    public static int CONCURRENCY_LIMIT_INITIAL;
+    public static int CONCURRENCY_LIMIT_MIN;
+    public static int CONCURRENCY_LIMIT_MAX;
+    public static String LOAD_BALANCING_POLICY;
+    public static int CONSISTENT_HASH_MAX_LOAD_PERCENT;
+    public static int TARGET_DNS_REFRESH_INTERVAL;
+    public static int OUTLIER_EJECTION_CONSECUTIVE_FAILURES;
+    public static int OUTLIER_EJECTION_DURATION;
+    public static int OUTLIER_EJECTION_MAX_PERCENT;
+    public static int TARGET_BATCH_SIZE;
+    public static int TARGET_BATCH_MAX_BYTES;
+    public static int TARGET_BATCH_LINGER;
+    public static boolean BINARY_PAYLOAD;
+    public static String HEADERS_FORMAT;
 
     //Authentication
     public static boolean AUTHENTICATED_KAFKA = false;
@@ -51,10 +110,24 @@ public class Config {
     public static String PROMETHEUS_BUCKETS;
     public static boolean LOG_RECORD;
     public static String TARGET_IS_ALIVE_HTTP_ENDPOINT;
+    public static List<Integer> TARGET_IS_ALIVE_BACKOFF;
+    public static int CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+    public static int CIRCUIT_BREAKER_PROBE_INTERVAL;
+    public static boolean BACKPRESSURE_ENABLED;
+    public static int BACKPRESSURE_DEFAULT_PERIOD;
+    public static int BACKPRESSURE_MAX_PERIOD;
+    public static int BACKPRESSURE_MAX_RESENDS;
+    public static int BACKPRESSURE_IN_FLIGHT_PERCENT;
+    public static int BACKPRESSURE_RATE_PERCENT;
+    public static int TARGET_WARM_UP_CONNECTIONS;
+    public static int TARGET_WARM_UP_TIMEOUT;
+    public static int TARGET_STREAM_ACK_TIMEOUT;
 
     public static void init() throws Exception {
-        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+        init(Dotenv.configure().ignoreIfMissing().load());
+    }
 
+    public static void init(Dotenv dotenv) throws Exception {
         KAFKA_BROKER = getString(dotenv, "KAFKA_BROKER");
 
         TOPICS = getStringList(dotenv, "TOPICS");
@@ -64,7 +137,13 @@ public class Config {
         TARGET = getString(dotenv, "TARGET");
         POLL_TIMEOUT = getOptionalInt(dotenv, "POLL_TIMEOUT", 1000);
         MAX_POLL_RECORDS = getOptionalInt(dotenv, "MAX_POLL_RECORDS", 50);
-        SESSION_TIMEOUT = getOptionalInt(dotenv, "SESSION_TIMEOUT", 10000);
+        STATIC_MEMBERSHIP = getOptionalBool(dotenv, "STATIC_MEMBERSHIP", false);
+        GROUP_INSTANCE_ID =
+            STATIC_MEMBERSHIP ? getOptionalString(dotenv, "GROUP_INSTANCE_ID", getHostname(dotenv)) : null;
+        SESSION_TIMEOUT = getOptionalInt(dotenv, "SESSION_TIMEOUT", STATIC_MEMBERSHIP ? 60000 : 10000);
+        PARTITION_ASSIGNMENT_STRATEGY =
+            getOptionalOneOf(dotenv, "PARTITION_ASSIGNMENT_STRATEGY", List.of("sticky", "cooperative-sticky"));
+        REVOKE_DRAIN_TIMEOUT = getOptionalInt(dotenv, "REVOKE_DRAIN_TIMEOUT", 10000);
 
         RETRY_PROCESS_WHEN_STATUS_CODE_MATCH =
             getOptionalString(dotenv, "RETRY_PROCESS_WHEN_STATUS_CODE_MATCH", "5[0-9][0-9]");
@@ -75,13 +154,86 @@ public class Config {
             getOptionalString(dotenv, "PRODUCE_TO_DEAD_LETTER_TOPIC_WHEN_STATUS_CODE_MATCH", "4[0-9][0-79]");
         RETRY_POLICY_EXPONENTIAL_BACKOFF =
             getOptionalIntList(dotenv, "RETRY_POLICY_EXPONENTIAL_BACKOFF", 3, List.of(50, 5000, 10));
+        TARGET_MAX_IN_FLIGHT = getOptionalInt(dotenv, "TARGET_MAX_IN_FLIGHT", 0);
+        TARGET_IS_ALIVE_HTTP_ENDPOINT = getOptionalString(dotenv, "TARGET_IS_ALIVE_HTTP_ENDPOINT", null);
+        TARGET_IS_ALIVE_BACKOFF = getOptionalIntList(dotenv, "TARGET_IS_ALIVE_BACKOFF", 3, List.of(50, 1000, 2));
+        CIRCUIT_BREAKER_FAILURE_THRESHOLD = getOptionalInt(dotenv, "CIRCUIT_BREAKER_FAILURE_THRESHOLD", 0);
+        CIRCUIT_BREAKER_PROBE_INTERVAL = getOptionalInt(dotenv, "CIRCUIT_BREAKER_PROBE_INTERVAL", 1000);
+        TARGETS = getTargets(dotenv);
+        TARGET_ROUTES = getTargetRoutes(dotenv);
         RETRY_TOPIC = getOptionalString(dotenv, "RETRY_TOPIC", null);
 
         DEAD_LETTER_TOPIC = getOptionalString(dotenv, "DEAD_LETTER_TOPIC", null);
+        RETRY_PARKING = getOptionalBool(dotenv, "RETRY_PARKING", true);
+        RETRY_TIMER_TICK = getOptionalInt(dotenv, "RETRY_TIMER_TICK", 10);
+        RETRY_TIMER_WHEEL_SIZE = getOptionalPositiveInt(dotenv, "RETRY_TIMER_WHEEL_SIZE", 512);
+        RETRY_STORE_DIRECTORY = getOptionalString(dotenv, "RETRY_STORE_DIRECTORY", null);
+        RETRY_STORE_MAX_BYTES = getOptionalInt(dotenv, "RETRY_STORE_MAX_BYTES", 268435456);
+        RETRY_STORE_SEGMENT_BYTES = getOptionalInt(dotenv, "RETRY_STORE_SEGMENT_BYTES", 16777216);
+        RETRY_STORE_BACKOFF = getOptionalIntList(dotenv, "RETRY_STORE_BACKOFF", 3, List.of(5000, 300000, 2));
+        RETRY_STORE_MAX_ATTEMPTS = getOptionalInt(dotenv, "RETRY_STORE_MAX_ATTEMPTS", 10);
+        RETRY_STORE_MAX_IN_FLIGHT = getOptionalInt(dotenv, "RETRY_STORE_MAX_IN_FLIGHT", 10);
+        RETRY_STORE_POLL_INTERVAL = getOptionalInt(dotenv, "RETRY_STORE_POLL_INTERVAL", 1000);
+        STATUS_CODE_ACTIONS = getStatusCodeActions();
         PROCESSING_DELAY = getOptionalInt(dotenv, "PROCESSING_DELAY", 0);
+        CONSUMER_THREADS = getOptionalInt(dotenv, "CONSUMER_THREADS", 1);
+        EXECUTION_MODE = getOptionalOneOf(dotenv, "EXECUTION_MODE", List.of("reactive", "blocking"));
+        BLOCKING_MAX_IN_FLIGHT = getOptionalPositiveInt(dotenv, "BLOCKING_MAX_IN_FLIGHT", 1000);
+        var streamTargets = TARGETS.values().stream().anyMatch(target -> target.sendingProtocol.equals("grpc-stream"));
+        if (EXECUTION_MODE.equals("blocking") && streamTargets) {
+            throw new Exception("env var parse error: EXECUTION_MODE blocking does not support grpc-stream targets");
+        }
+        RECORD_FILTER = getOptionalRecordFilter(dotenv, "RECORD_FILTER");
+        DEDUP_CACHE = getOptionalOneOf(dotenv, "DEDUP_CACHE", List.of("offset", "header", "key", "none"));
+        DEDUP_CACHE_HEADER = getOptionalString(dotenv, "DEDUP_CACHE_HEADER", "idempotency-key");
+        DEDUP_CACHE_SIZE = getOptionalInt(dotenv, "DEDUP_CACHE_SIZE", 1000000);
+        DEDUP_CACHE_TTL = getOptionalInt(dotenv, "DEDUP_CACHE_TTL", 3600000);
+        var processors = Runtime.getRuntime().availableProcessors();
+        TARGET_HTTP_CLIENT_THREADS = getOptionalInt(dotenv, "TARGET_HTTP_CLIENT_THREADS", processors);
+        TARGET_GRPC_CHANNEL_THREADS = getOptionalInt(dotenv, "TARGET_GRPC_CHANNEL_THREADS", processors);
+        TARGET_COMPLETION_THREADS = getOptionalInt(dotenv, "TARGET_COMPLETION_THREADS", processors);
+        ORDERING_MODE = getOptionalOneOf(dotenv, "ORDERING_MODE", List.of("partition", "key"));
+        ORDERING_KEY_SLOTS = getOptionalPositiveInt(dotenv, "ORDERING_KEY_SLOTS", 32);
+        PROCESSING_MODE = getOptionalOneOf(dotenv, "PROCESSING_MODE", List.of("batch", "stream"));
+        MAX_IN_FLIGHT_PER_PARTITION = getOptionalInt(dotenv, "MAX_IN_FLIGHT_PER_PARTITION", 100);
+        COMMIT_INTERVAL = getOptionalInt(dotenv, "COMMIT_INTERVAL", 1000);
+        RATE_LIMIT_RECORDS_PER_SECOND =
+            getOptionalInt(
+                dotenv,
+                "RATE_LIMIT_RECORDS_PER_SECOND",
+                PROCESSING_DELAY > 0 ? Math.max(1, 1000 / PROCESSING_DELAY) : 0
+            );
+        RATE_LIMIT_BYTES_PER_SECOND = getOptionalInt(dotenv, "RATE_LIMIT_BYTES_PER_SECOND", 0);
+        RATE_LIMIT_BURST = getOptionalInt(dotenv, "RATE_LIMIT_BURST", 1000);
+        RATE_LIMIT_TOPIC_RECORDS_PER_SECOND = getOptionalIntMap(dotenv, "RATE_LIMIT_TOPIC_RECORDS_PER_SECOND");
+        RATE_LIMIT_TOPIC_BYTES_PER_SECOND = getOptionalIntMap(dotenv, "RATE_LIMIT_TOPIC_BYTES_PER_SECOND");
+        ADAPTIVE_CONCURRENCY = getOptionalBool(dotenv, "ADAPTIVE_CONCURRENCY", false);
+        CONCURRENCY_LIMIT_INITIAL = getOptionalInt(dotenv, "CONCURRENCY_LIMIT_INITIAL", 20);
+        CONCURRENCY_LIMIT_MIN = getOptionalInt(dotenv, "CONCURRENCY_LIMIT_MIN", 1);
+        CONCURRENCY_LIMIT_MAX = getOptionalInt(dotenv, "CONCURRENCY_LIMIT_MAX", 1000);
+        LOAD_BALANCING_POLICY =
+            getOptionalOneOf(dotenv, "LOAD_BALANCING_POLICY", List.of("p2c", "least-requests", "consistent-hash"));
+        CONSISTENT_HASH_MAX_LOAD_PERCENT = getOptionalInt(dotenv, "CONSISTENT_HASH_MAX_LOAD_PERCENT", 125);
+        TARGET_DNS_REFRESH_INTERVAL = getOptionalInt(dotenv, "TARGET_DNS_REFRESH_INTERVAL", 30000);
+        OUTLIER_EJECTION_CONSECUTIVE_FAILURES = getOptionalInt(dotenv, "OUTLIER_EJECTION_CONSECUTIVE_FAILURES", 5);
+        OUTLIER_EJECTION_DURATION = getOptionalInt(dotenv, "OUTLIER_EJECTION_DURATION", 30000);
+        OUTLIER_EJECTION_MAX_PERCENT = getOptionalInt(dotenv, "OUTLIER_EJECTION_MAX_PERCENT", 50);
+        TARGET_BATCH_SIZE = getOptionalInt(dotenv, "TARGET_BATCH_SIZE", 1);
+        TARGET_BATCH_MAX_BYTES = getOptionalInt(dotenv, "TARGET_BATCH_MAX_BYTES", 1048576);
+        TARGET_BATCH_LINGER = getOptionalInt(dotenv, "TARGET_BATCH_LINGER", 10);
+        BINARY_PAYLOAD = getOptionalBool(dotenv, "BINARY_PAYLOAD", false);
+        HEADERS_FORMAT = getOptionalOneOf(dotenv, "HEADERS_FORMAT", List.of("json", "native"));
         MONITORING_SERVER_PORT = getOptionalInt(dotenv, "MONITORING_SERVER_PORT", 0);
 
-        TARGET_IS_ALIVE_HTTP_ENDPOINT = getOptionalString(dotenv, "TARGET_IS_ALIVE_HTTP_ENDPOINT", null);
+        BACKPRESSURE_ENABLED = getOptionalBool(dotenv, "BACKPRESSURE_ENABLED", false);
+        BACKPRESSURE_DEFAULT_PERIOD = getOptionalInt(dotenv, "BACKPRESSURE_DEFAULT_PERIOD", 1000);
+        BACKPRESSURE_MAX_PERIOD = getOptionalInt(dotenv, "BACKPRESSURE_MAX_PERIOD", 60000);
+        BACKPRESSURE_MAX_RESENDS = getOptionalInt(dotenv, "BACKPRESSURE_MAX_RESENDS", 5);
+        BACKPRESSURE_IN_FLIGHT_PERCENT = getOptionalInt(dotenv, "BACKPRESSURE_IN_FLIGHT_PERCENT", 50);
+        BACKPRESSURE_RATE_PERCENT = getOptionalInt(dotenv, "BACKPRESSURE_RATE_PERCENT", 50);
+        TARGET_WARM_UP_CONNECTIONS = getOptionalInt(dotenv, "TARGET_WARM_UP_CONNECTIONS", 0);
+        TARGET_WARM_UP_TIMEOUT = getOptionalInt(dotenv, "TARGET_WARM_UP_TIMEOUT", 5000);
+        TARGET_STREAM_ACK_TIMEOUT = getOptionalInt(dotenv, "TARGET_STREAM_ACK_TIMEOUT", 30000);
         BASE64_TRUSTSTORE_FILE_PATH = getOptionalString(dotenv, "BASE64_TRUSTSTORE_FILE_PATH", null);
 
         if (BASE64_TRUSTSTORE_FILE_PATH != null) {
@@ -115,6 +267,11 @@ public class Config {
         Files.write(Paths.get(path), Base64.getDecoder().decode(value.getBytes(StandardCharsets.UTF_8)));
     }
 
+    private static String getHostname(Dotenv dotenv) throws IOException {
+        var hostname = dotenv.get("HOSTNAME");
+        return hostname != null ? hostname : InetAddress.getLocalHost().getHostName();
+    }
+
     private static String readFile(String path) throws IOException {
         return new String(Files.readAllBytes(Paths.get(path)));
     }
@@ -165,6 +322,34 @@ public class Config {
         return list;
     }
 
+    private static Map<String, Integer> getOptionalIntMap(Dotenv dotenv, String name) throws Exception {
+        String value = dotenv.get(name);
+
+        if (value == null) {
+            return Map.of();
+        }
+        var map = new HashMap<String, Integer>();
+        for (var entry : value.split(",")) {
+            var separator = entry.lastIndexOf(':');
+            if (separator == -1) {
+                throw new Exception(
+                    String.format("env var parse error: expected %1$s entries as key:value, got %2$s", name, entry)
+                );
+            }
+            map.put(entry.substring(0, separator), Integer.parseInt(entry.substring(separator + 1)));
+        }
+        return map;
+    }
+
+    private static RecordFilter getOptionalRecordFilter(Dotenv dotenv, String name) throws Exception {
+        String value = dotenv.get(name);
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return RecordFilter.compile(value);
+    }
+
     private static String getOptionalString(Dotenv dotenv, String name, String fallback) {
         try {
             return getString(dotenv, name);
@@ -173,6 +358,145 @@ public class Config {
         }
     }
 
+    private static Map<String, TargetConfig> getTargets(Dotenv dotenv) throws Exception {
+        var targets = new LinkedHashMap<String, TargetConfig>();
+        targets.put(
+            "default",
+            new TargetConfig(
+                "default",
+                SENDING_PROTOCOL,
+                TARGET,
+                RETRY_POLICY_EXPONENTIAL_BACKOFF,
+                TARGET_MAX_IN_FLIGHT,
+                TARGET_IS_ALIVE_HTTP_ENDPOINT
+            )
+        );
+
+        String value = dotenv.get("TARGETS");
+        for (var name : value == null ? new String[0] : value.split(",")) {
+            var suffix = "_" + name.trim().toUpperCase().replaceAll("[^A-Z0-9]", "_");
+            targets.put(
+                name.trim(),
+                new TargetConfig(
+                    name.trim(),
+                    getOptionalString(dotenv, "SENDING_PROTOCOL" + suffix, SENDING_PROTOCOL),
+                    getString(dotenv, "TARGET" + suffix),
+                    getOptionalIntList(
+                        dotenv,
+                        "RETRY_POLICY_EXPONENTIAL_BACKOFF" + suffix,
+                        3,
+                        RETRY_POLICY_EXPONENTIAL_BACKOFF
+                    ),
+                    getOptionalInt(dotenv, "TARGET_MAX_IN_FLIGHT" + suffix, TARGET_MAX_IN_FLIGHT),
+                    getOptionalString(dotenv, "TARGET_IS_ALIVE_HTTP_ENDPOINT" + suffix, null)
+                )
+            );
+        }
+        for (var targetConfig : targets.values()) {
+            validateTarget(targetConfig);
+        }
+        return targets;
+    }
+
+    private static void validateTarget(TargetConfig targetConfig) throws Exception {
+        var dns = targetConfig.target.startsWith("dns:///");
+        if (dns && targetConfig.sendingProtocol.equals("https")) {
+            throw new Exception(
+                String.format(
+                    "env var parse error: target %1$s cannot resolve dns:/// over https, TLS needs the host name",
+                    targetConfig.name
+                )
+            );
+        }
+        if (
+            CIRCUIT_BREAKER_FAILURE_THRESHOLD > 0 &&
+            targetConfig.sendingProtocol.startsWith("http") &&
+            targetConfig.isAliveEndpoint == null
+        ) {
+            throw new Exception(
+                String.format(
+                    "env var parse error: target %1$s needs an is-alive endpoint to close its circuit breaker",
+                    targetConfig.name
+                )
+            );
+        }
+        if (!targetConfig.sendingProtocol.startsWith("grpc")) {
+            return;
+        }
+        var addresses = dns
+            ? new String[] { targetConfig.target.substring("dns:///".length()) }
+            : targetConfig.target.split(",");
+        for (var address : addresses) {
+            if (!address.trim().matches("(\\[[0-9A-Fa-f:.]+\\]|[^:/\\[\\]]+):[0-9]+")) {
+                throw new Exception(
+                    String.format(
+                        "env var parse error: expected target %1$s addresses as host:port, got %2$s",
+                        targetConfig.name,
+                        address
+                    )
+                );
+            }
+        }
+    }
+
+    private static Map<String, String> getTargetRoutes(Dotenv dotenv) throws Exception {
+        String value = dotenv.get("TARGET_ROUTES");
+
+        if (value == null) {
+            return Map.of();
+        }
+        var routes = new LinkedHashMap<String, String>();
+        for (var entry : value.split(",")) {
+            var separator = entry.lastIndexOf('=');
+            var selector = separator == -1 ? "" : entry.substring(0, separator).trim();
+            var target = entry.substring(separator + 1).trim();
+            if (!selector.matches("topic:.+|header:[^:]+:.*") || !TARGETS.containsKey(target)) {
+                throw new Exception(
+                    String.format(
+                        "env var parse error: expected TARGET_ROUTES entries as topic:<topic>=<target> or header:<name>:<value>=<target>, got %1$s",
+                        entry
+                    )
+                );
+            }
+            routes.put(selector, target);
+        }
+        return routes;
+    }
+
+    private static StatusCodeAction[] getStatusCodeActions() {
+        var retry = Pattern.compile(RETRY_PROCESS_WHEN_STATUS_CODE_MATCH);
+        var retryTopic = Pattern.compile(PRODUCE_TO_RETRY_TOPIC_WHEN_STATUS_CODE_MATCH);
+        var deadLetterTopic = Pattern.compile(PRODUCE_TO_DEAD_LETTER_TOPIC_WHEN_STATUS_CODE_MATCH);
+        var actions = new StatusCodeAction[1000];
+
+        for (var statusCode = 0; statusCode < actions.length; statusCode++) {
+            var value = String.valueOf(statusCode);
+            if (retry.matcher(value).matches()) {
+                actions[statusCode] = StatusCodeAction.RETRY;
+            } else if (retryTopic.matcher(value).matches() && (RETRY_TOPIC != null || RETRY_STORE_DIRECTORY != null)) {
+                actions[statusCode] = StatusCodeAction.PRODUCE_TO_RETRY_TOPIC;
+            } else if (deadLetterTopic.matcher(value).matches()) {
+                actions[statusCode] = StatusCodeAction.PRODUCE_TO_DEAD_LETTER_TOPIC;
+            } else if (retryTopic.matcher(value).matches()) {
+                actions[statusCode] = StatusCodeAction.PRODUCE_TO_RETRY_TOPIC;
+            } else {
+                actions[statusCode] = StatusCodeAction.SUCCESS;
+            }
+        }
+        return actions;
+    }
+
+    private static String getOptionalOneOf(Dotenv dotenv, String name, List<String> values) throws Exception {
+        var value = getOptionalString(dotenv, name, values.get(0));
+
+        if (!values.contains(value)) {
+            throw new Exception(
+                String.format("env var parse error: expected one of %1$s, got %2$s", String.join(",", values), value)
+            );
+        }
+        return value;
+    }
+
     private static boolean getOptionalBool(Dotenv dotenv, String name, boolean fallback) {
         try {
             return Boolean.parseBoolean(getString(dotenv, name));
@@ -188,4 +512,15 @@ public class Config {
             return fallback;
         }
     }
+
+    private static int getOptionalPositiveInt(Dotenv dotenv, String name, int fallback) throws Exception {
+        var value = getOptionalInt(dotenv, name, fallback);
+
+        if (value < 1) {
+            throw new Exception(
+                String.format("env var parse error: expected %1$s to be positive, got %2$s", name, value)
+            );
+        }
+        return value;
+    }
 }
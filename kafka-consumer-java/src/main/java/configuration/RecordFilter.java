@@ -0,0 +1,101 @@
+package configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public class RecordFilter {
+    private static final Pattern CLAUSE = Pattern.compile(
+        "^\\s*(topic|key|header\\.(\\S+?))\\s*(!=|=|\\bnot\\s+in\\b|\\bin\\b)\\s*(.*?)\\s*$",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final List<Predicate<ConsumerRecord<String, byte[]>>> clauses;
+
+    private RecordFilter(List<Predicate<ConsumerRecord<String, byte[]>>> clauses) {
+        this.clauses = clauses;
+    }
+
+    public boolean test(ConsumerRecord<String, byte[]> record) {
+        for (var i = 0; i < clauses.size(); i++) {
+            if (!clauses.get(i).test(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static RecordFilter compile(String expression) throws Exception {
+        var clauses = new ArrayList<Predicate<ConsumerRecord<String, byte[]>>>();
+        for (var clause : expression.split(";")) {
+            if (!clause.isBlank()) {
+                clauses.add(compileClause(clause));
+            }
+        }
+        return new RecordFilter(clauses);
+    }
+
+    private static Predicate<ConsumerRecord<String, byte[]>> compileClause(String clause) throws Exception {
+        var matcher = CLAUSE.matcher(clause);
+        if (!matcher.matches()) {
+            throw new Exception(String.format("env var parse error: invalid record filter clause %1$s", clause));
+        }
+        var operator = matcher.group(3).toLowerCase().replaceAll("\\s+", " ");
+        var negated = operator.equals("!=") || operator.equals("not in");
+        var values = parseValues(matcher.group(4), operator.endsWith("in"), clause);
+
+        if (matcher.group(2) != null) {
+            var name = matcher.group(2);
+            var encoded = values.stream().map(value -> value.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+            return record -> {
+                var header = record.headers().lastHeader(name);
+                return (header != null && header.value() != null && containsBytes(encoded, header.value())) != negated;
+            };
+        }
+        var set = Set.copyOf(values);
+        if (matcher.group(1).equalsIgnoreCase("topic")) {
+            return record -> set.contains(record.topic()) != negated;
+        }
+        return record -> (record.key() != null && set.contains(record.key())) != negated;
+    }
+
+    private static List<String> parseValues(String values, boolean list, String clause) throws Exception {
+        if (!list) {
+            return List.of(unquote(values));
+        }
+        if (!values.startsWith("(") || !values.endsWith(")")) {
+            throw new Exception(
+                String.format("env var parse error: expected a (value, ...) list in record filter clause %1$s", clause)
+            );
+        }
+        return Arrays
+            .stream(values.substring(1, values.length() - 1).split(","))
+            .map(value -> unquote(value.trim()))
+            .collect(Collectors.toList());
+    }
+
+    private static String unquote(String value) {
+        if (
+            value.length() >= 2 &&
+            (value.startsWith("\"") && value.endsWith("\"") || value.startsWith("'") && value.endsWith("'"))
+        ) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static boolean containsBytes(byte[][] values, byte[] value) {
+        for (var candidate : values) {
+            if (Arrays.equals(candidate, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
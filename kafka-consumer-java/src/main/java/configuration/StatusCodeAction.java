@@ -0,0 +1,15 @@
+package configuration;
+
+public enum StatusCodeAction {
+    SUCCESS,
+    RETRY,
+    PRODUCE_TO_RETRY_TOPIC,
+    PRODUCE_TO_DEAD_LETTER_TOPIC;
+
+    public static StatusCodeAction of(int statusCode) {
+        if (statusCode < 0 || statusCode >= Config.STATUS_CODE_ACTIONS.length) {
+            return SUCCESS;
+        }
+        return Config.STATUS_CODE_ACTIONS[statusCode];
+    }
+}
@@ -0,0 +1,28 @@
+package configuration;
+
+import java.util.List;
+
+public class TargetConfig {
+    public final String name;
+    public final String sendingProtocol;
+    public final String target;
+    public final List<Integer> retryPolicyExponentialBackoff;
+    public final int maxInFlight;
+    public final String isAliveEndpoint;
+
+    public TargetConfig(
+        String name,
+        String sendingProtocol,
+        String target,
+        List<Integer> retryPolicyExponentialBackoff,
+        int maxInFlight,
+        String isAliveEndpoint
+    ) {
+        this.name = name;
+        this.sendingProtocol = sendingProtocol;
+        this.target = target;
+        this.retryPolicyExponentialBackoff = retryPolicyExponentialBackoff;
+        this.maxInFlight = maxInFlight;
+        this.isAliveEndpoint = isAliveEndpoint;
+    }
+}
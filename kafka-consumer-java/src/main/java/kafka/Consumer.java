@@ -1,54 +1,102 @@
 package kafka;
 
 import configuration.Config;
+import configuration.StatusCodeAction;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import monitoring.Monitor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.GroupedFlux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import target.ITarget;
+import target.RetryScheduler;
+import target.TargetResponse;
 
 public class Consumer {
-    private ReactiveKafkaClient<String, String> kafkaConsumer;
+    private ReactiveKafkaClient<String, byte[]> kafkaConsumer;
     private final ITarget target;
+    private final RateLimiter rateLimiter;
+    private final RetryScheduler retryScheduler;
+    private final RetryStore retryStore;
+    private final DeliveryCache deliveryCache;
+    private final OffsetTracker offsetTracker = new OffsetTracker(Config.MAX_IN_FLIGHT_PER_PARTITION);
+    private final Map<String, CompletableFuture<?>> parkedKeys = new ConcurrentHashMap<>();
 
-    public Consumer(ReactiveKafkaClient<String, String> kafkaConsumer, ITarget target) {
+    public Consumer(
+        ReactiveKafkaClient<String, byte[]> kafkaConsumer,
+        ITarget target,
+        RateLimiter rateLimiter,
+        RetryScheduler retryScheduler,
+        RetryStore retryStore,
+        DeliveryCache deliveryCache
+    ) {
         this.kafkaConsumer = kafkaConsumer;
         this.target = target;
+        this.rateLimiter = rateLimiter;
+        this.retryScheduler = retryScheduler;
+        this.retryStore = retryStore;
+        this.deliveryCache = deliveryCache;
+        this.kafkaConsumer.onRevoke(partitions -> drain(partitions));
     }
 
     public Flux<?> stream() {
+        return stream(CompletableFuture.completedFuture(null));
+    }
+
+    public Flux<?> stream(CompletableFuture<?> ready) {
+        if (!ready.isDone()) {
+            kafkaConsumer.pauseAll();
+            ready.thenRun(() -> kafkaConsumer.resumeAll());
+        }
+        return Flux.merge(
+            Config.PROCESSING_MODE.equals("stream") ? pipelined() : batched(),
+            retryStore == null ? Flux.empty()
+                : Mono.fromFuture(ready).thenMany(retryStore.replay(record -> send(record)))
+        );
+    }
+
+    private Flux<?> pipelined() {
+        return Flux.merge(
+            kafkaConsumer
+                .doOnNext(records -> Monitor.batchProcessStarted(records.count()))
+                .doOnNext(records -> kafkaConsumer.pause(offsetTracker.track(records)))
+                .concatMapIterable(records -> records, Integer.MAX_VALUE)
+                .publishOn(Schedulers.parallel(), Integer.MAX_VALUE)
+                .groupBy(record -> new TopicPartition(record.topic(), record.partition()), Integer.MAX_VALUE)
+                .flatMap(partition -> processPartition(partition), Integer.MAX_VALUE),
+            Flux
+                .interval(Duration.ofMillis(Config.COMMIT_INTERVAL))
+                .doOnNext(__ -> kafkaConsumer.commit(offsetTracker.committable()))
+        );
+    }
+
+    private Flux<?> batched() {
         return kafkaConsumer
             .doOnNext(records -> Monitor.batchProcessStarted(records.count()))
+            .doOnNext(records -> offsetTracker.track(records))
+            .doOnNext(__ -> kafkaConsumer.pauseAll())
             .concatMap(
                 records -> {
                     var batchStartTimestamp = new Date().getTime();
                     return Flux
                         .fromIterable(records)
-                        .groupBy(x -> x.partition())
-                        .delayElements(Duration.ofMillis(Config.PROCESSING_DELAY))
+                        .groupBy(record -> new TopicPartition(record.topic(), record.partition()))
                         .publishOn(Schedulers.parallel())
-                        .flatMap(
-                            partition -> partition
-                                .doOnNext(record -> Monitor.processRecord(record))
-                                .concatMap(
-                                    record -> Mono
-                                        .fromFuture(target.call(record))
-                                        .doOnSuccess(
-                                            targetResponse -> {
-                                                if (targetResponse.callLatency.isPresent()) {
-                                                    Monitor.callTargetLatency(targetResponse.callLatency.getAsLong());
-                                                }
-                                                if (targetResponse.resultLatency.isPresent()) {
-                                                    Monitor.resultTargetLatency(
-                                                        targetResponse.resultLatency.getAsLong()
-                                                    );
-                                                }
-                                            }
-                                        )
-                                )
-                        )
+                        .flatMap(partition -> processPartition(partition))
                         .collectList()
                         .map(__ -> batchStartTimestamp);
                 }
@@ -56,10 +104,199 @@ public class Consumer {
             .doOnNext(batchStartTimestamp -> Monitor.batchProcessCompleted(batchStartTimestamp))
             .map(
                 __ -> {
-                    kafkaConsumer.commit();
+                    kafkaConsumer.commit(offsetTracker.committable());
                     return 0;
                 }
             )
-            .doOnNext(__ -> kafkaConsumer.poll());
+            .doOnNext(__ -> kafkaConsumer.resumeAll());
+    }
+
+    private Flux<ConsumerRecord<String, byte[]>> processPartition(
+        GroupedFlux<TopicPartition, ConsumerRecord<String, byte[]>> partition
+    ) {
+        var records = partition.doOnNext(record -> Monitor.processRecord(record)).filter(record -> accept(record));
+        if (Config.ORDERING_MODE.equals("key")) {
+            return records
+                .groupBy(record -> keySlot(record))
+                .flatMap(slot -> processLane(slot), Config.ORDERING_KEY_SLOTS);
+        }
+        return processLane(records);
+    }
+
+    private Flux<ConsumerRecord<String, byte[]>> processLane(Flux<ConsumerRecord<String, byte[]>> records) {
+        if (Config.TARGET_BATCH_SIZE > 1) {
+            return records
+                .bufferTimeout(Config.TARGET_BATCH_SIZE, Duration.ofMillis(Config.TARGET_BATCH_LINGER))
+                .onBackpressureBuffer()
+                .concatMapIterable(batch -> splitByBytes(batch))
+                .concatMap(batch -> processBatch(batch));
+        }
+        return records.concatMap(record -> process(record));
+    }
+
+    private boolean accept(ConsumerRecord<String, byte[]> record) {
+        if (Config.RECORD_FILTER == null || Config.RECORD_FILTER.test(record)) {
+            return true;
+        }
+        Monitor.recordFiltered();
+        complete(record);
+        return false;
+    }
+
+    private Mono<ConsumerRecord<String, byte[]>> process(ConsumerRecord<String, byte[]> record) {
+        if (!offsetTracker.dispatch(record)) {
+            return Mono.empty();
+        }
+        if (!parkingRetries()) {
+            return call(record).map(__ -> record);
+        }
+
+        var parkedKey = parkedKey(record);
+        var parked = parkedKeys.get(parkedKey);
+        if (parked != null) {
+            park(parkedKey, record, parked.handle((__, ___) -> null).thenCompose(__ -> call(record).toFuture()));
+            return Mono.just(record);
+        }
+
+        var backingOff = retryScheduler.whenBackingOff(record);
+        var completion = call(record).doFinally(__ -> retryScheduler.forget(record)).toFuture();
+        var released = new CompletableFuture<ConsumerRecord<String, byte[]>>();
+        completion.whenComplete(
+            (__, exception) -> {
+                if (exception != null) {
+                    released.completeExceptionally(exception);
+                } else {
+                    released.complete(record);
+                }
+            }
+        );
+        backingOff.thenRun(
+            () -> {
+                park(parkedKey, record, completion);
+                released.complete(record);
+            }
+        );
+        return Mono.fromFuture(released);
+    }
+
+    private Mono<TargetResponse> call(ConsumerRecord<String, byte[]> record) {
+        if (deliveryCache != null && deliveryCache.isDelivered(record)) {
+            return Mono.fromRunnable(() -> complete(record));
+        }
+        return send(record).doOnSuccess(targetResponse -> onProcessed(record, targetResponse));
+    }
+
+    private Mono<TargetResponse> send(ConsumerRecord<String, byte[]> record) {
+        var waitNanos = rateLimiter.reserve(record);
+        var call = Mono.defer(() -> Mono.fromFuture(target.call(record)));
+        return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(call) : call;
+    }
+
+    private void park(String parkedKey, ConsumerRecord<String, byte[]> record, CompletableFuture<?> parked) {
+        parkedKeys.put(parkedKey, parked);
+        parked.whenComplete(
+            (__, exception) -> {
+                parkedKeys.remove(parkedKey, parked);
+                if (exception != null) {
+                    Monitor.parkedRecordFailed(record, exception);
+                    complete(record);
+                }
+            }
+        );
+    }
+
+    private Flux<ConsumerRecord<String, byte[]>> processBatch(List<ConsumerRecord<String, byte[]>> batch) {
+        var dispatched = batch.stream().filter(record -> offsetTracker.dispatch(record)).collect(Collectors.toList());
+        var records = deliveryCache == null ? dispatched : undelivered(dispatched);
+        if (records.isEmpty()) {
+            return Flux.empty();
+        }
+        var waitNanos = records.stream().mapToLong(record -> rateLimiter.reserve(record)).max().orElse(0);
+        var call = Flux.defer(
+            () -> {
+                var targetResponses = target.callBatch(records);
+                return Flux
+                    .range(0, records.size())
+                    .concatMap(
+                        i -> Mono
+                            .fromFuture(targetResponses.get(i))
+                            .doOnSuccess(targetResponse -> onProcessed(records.get(i), targetResponse))
+                            .map(__ -> records.get(i))
+                    );
+            }
+        );
+        return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).thenMany(call) : call;
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> drain(Collection<TopicPartition> partitions) {
+        try {
+            offsetTracker.revoke(partitions).get(Config.REVOKE_DRAIN_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {}
+        return offsetTracker.forget(partitions);
+    }
+
+    private List<ConsumerRecord<String, byte[]>> undelivered(List<ConsumerRecord<String, byte[]>> records) {
+        var undelivered = new ArrayList<ConsumerRecord<String, byte[]>>(records.size());
+        for (var record : records) {
+            if (deliveryCache.isDelivered(record)) {
+                complete(record);
+            } else {
+                undelivered.add(record);
+            }
+        }
+        return undelivered;
+    }
+
+    private void onProcessed(ConsumerRecord<String, byte[]> record, TargetResponse targetResponse) {
+        if (targetResponse.callLatency.isPresent()) {
+            Monitor.callTargetLatency(targetResponse.callLatency.getAsLong());
+        }
+        if (targetResponse.resultLatency.isPresent()) {
+            Monitor.resultTargetLatency(targetResponse.resultLatency.getAsLong());
+        }
+        if (deliveryCache != null && StatusCodeAction.of(targetResponse.statusCode) == StatusCodeAction.SUCCESS) {
+            deliveryCache.delivered(record);
+        }
+        complete(record);
+    }
+
+    private void complete(ConsumerRecord<String, byte[]> record) {
+        if (offsetTracker.complete(record)) {
+            kafkaConsumer.resume(List.of(new TopicPartition(record.topic(), record.partition())));
+        }
+    }
+
+    private static List<List<ConsumerRecord<String, byte[]>>> splitByBytes(
+        List<ConsumerRecord<String, byte[]>> records
+    ) {
+        var batches = new ArrayList<List<ConsumerRecord<String, byte[]>>>();
+        var batch = new ArrayList<ConsumerRecord<String, byte[]>>();
+        var batchBytes = 0L;
+        for (var record : records) {
+            var size = Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+            if (!batch.isEmpty() && batchBytes + size > Config.TARGET_BATCH_MAX_BYTES) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(record);
+            batchBytes += size;
+        }
+        batches.add(batch);
+        return batches;
+    }
+
+    private static boolean parkingRetries() {
+        return Config.RETRY_PARKING && Config.ORDERING_MODE.equals("key") && Config.PROCESSING_MODE.equals("stream");
+    }
+
+    private static String parkedKey(ConsumerRecord<String, byte[]> record) {
+        return record.topic() + "-" + record.partition() + "-" + record.key();
+    }
+
+    private static int keySlot(ConsumerRecord<String, byte[]> record) {
+        return record.key() == null ? 0 : Math.floorMod(record.key().hashCode(), Config.ORDERING_KEY_SLOTS);
     }
 }
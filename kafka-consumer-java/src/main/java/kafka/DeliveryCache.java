@@ -0,0 +1,63 @@
+package kafka;
+
+import configuration.Config;
+import monitoring.Monitor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import utils.ExpiringLongSet;
+
+public class DeliveryCache {
+    private static final long NO_FINGERPRINT = 0L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final ExpiringLongSet delivered = new ExpiringLongSet(Config.DEDUP_CACHE_SIZE, Config.DEDUP_CACHE_TTL);
+
+    boolean isDelivered(ConsumerRecord<String, byte[]> record) {
+        var fingerprint = fingerprint(record);
+        if (fingerprint == NO_FINGERPRINT) {
+            return false;
+        }
+        if (delivered.contains(fingerprint)) {
+            Monitor.dedupCacheHit();
+            return true;
+        }
+        Monitor.dedupCacheMiss();
+        return false;
+    }
+
+    void delivered(ConsumerRecord<String, byte[]> record) {
+        var fingerprint = fingerprint(record);
+        if (fingerprint == NO_FINGERPRINT) {
+            return;
+        }
+        delivered.add(fingerprint);
+        Monitor.dedupCacheSize(delivered.size());
+    }
+
+    private static long fingerprint(ConsumerRecord<String, byte[]> record) {
+        var topic = hash(FNV_OFFSET_BASIS, record.topic());
+        switch (Config.DEDUP_CACHE) {
+            case "key":
+                return record.key() == null ? NO_FINGERPRINT : hash(topic, record.key());
+            case "header":
+                var header = record.headers().lastHeader(Config.DEDUP_CACHE_HEADER);
+                return header == null || header.value() == null ? NO_FINGERPRINT : hash(topic, header.value());
+            default:
+                return ((topic ^ record.partition()) * FNV_PRIME ^ record.offset()) * FNV_PRIME;
+        }
+    }
+
+    private static long hash(long hash, String value) {
+        for (var i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, byte[] value) {
+        for (var b : value) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
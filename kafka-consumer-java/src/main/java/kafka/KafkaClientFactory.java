@@ -3,6 +3,7 @@ package kafka;
 import configuration.Config;
 import java.util.Properties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.RangeAssignor;
 import org.apache.kafka.clients.consumer.StickyAssignor;
@@ -48,22 +49,30 @@ public class KafkaClientFactory {
         return props;
     }
 
-    public <K, V> org.apache.kafka.clients.consumer.Consumer<K, V> createConsumer() {
+    public <K, V> org.apache.kafka.clients.consumer.Consumer<K, V> createConsumer(int consumerIndex) {
         var props = getAuthProperties();
         props.put(ConsumerConfig.GROUP_ID_CONFIG, Config.GROUP_ID);
+        if (Config.GROUP_INSTANCE_ID != null) {
+            props.put(
+                ConsumerConfig.GROUP_INSTANCE_ID_CONFIG,
+                Config.CONSUMER_THREADS > 1 ? Config.GROUP_INSTANCE_ID + "-" + consumerIndex : Config.GROUP_INSTANCE_ID
+            );
+        }
         props.put(
             ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
             "org.apache.kafka.common.serialization.StringDeserializer"
         );
         props.put(
             ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
-            "org.apache.kafka.common.serialization.StringDeserializer"
+            "org.apache.kafka.common.serialization.ByteArrayDeserializer"
         );
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Config.MAX_POLL_RECORDS);
         props.put(
             ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG,
-            String.format("%s,%s", StickyAssignor.class.getName(), RangeAssignor.class.getName())
+            Config.PARTITION_ASSIGNMENT_STRATEGY.equals("cooperative-sticky")
+                ? CooperativeStickyAssignor.class.getName()
+                : String.format("%s,%s", StickyAssignor.class.getName(), RangeAssignor.class.getName())
         );
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, Config.SESSION_TIMEOUT);
         props.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, Config.SESSION_TIMEOUT / 3);
@@ -73,7 +82,7 @@ public class KafkaClientFactory {
     public <K, V> KafkaProducer<K, V> createProducer() {
         var props = getAuthProperties();
         props.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-        props.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
+        props.put("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
         return new KafkaProducer<>(props);
     }
 }
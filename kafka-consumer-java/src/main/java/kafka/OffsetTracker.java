@@ -0,0 +1,226 @@
+package kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+class OffsetTracker {
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+    private final int window;
+
+    OffsetTracker(int window) {
+        this.window = window;
+    }
+
+    List<TopicPartition> track(ConsumerRecords<?, ?> records) {
+        var full = new ArrayList<TopicPartition>();
+        for (var topicPartition : records.partitions()) {
+            var partitionOffsets = partitions.computeIfAbsent(topicPartition, __ -> new PartitionOffsets());
+            for (var record : records.records(topicPartition)) {
+                partitionOffsets.track(record.offset());
+            }
+            if (partitionOffsets.fill(window)) {
+                full.add(topicPartition);
+            }
+        }
+        return full;
+    }
+
+    boolean complete(ConsumerRecord<?, ?> record) {
+        var partitionOffsets = partitions.get(new TopicPartition(record.topic(), record.partition()));
+        if (partitionOffsets == null) {
+            return false;
+        }
+        partitionOffsets.complete(record.offset());
+        return partitionOffsets.drain(window / 2);
+    }
+
+    boolean dispatch(ConsumerRecord<?, ?> record) {
+        var partitionOffsets = partitions.get(new TopicPartition(record.topic(), record.partition()));
+        return partitionOffsets != null && partitionOffsets.dispatch(record.offset());
+    }
+
+    CompletableFuture<Void> revoke(Collection<TopicPartition> topicPartitions) {
+        return CompletableFuture.allOf(
+            topicPartitions
+                .stream()
+                .map(partitions::get)
+                .filter(Objects::nonNull)
+                .map(PartitionOffsets::revoke)
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> forget(Collection<TopicPartition> topicPartitions) {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        for (var topicPartition : topicPartitions) {
+            var partitionOffsets = partitions.remove(topicPartition);
+            if (partitionOffsets == null) {
+                continue;
+            }
+            var offset = partitionOffsets.takeCommittable();
+            if (offset != -1) {
+                offsets.put(topicPartition, new OffsetAndMetadata(offset));
+            }
+        }
+        return offsets;
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> committable() {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        partitions.forEach(
+            (topicPartition, partitionOffsets) -> {
+                var offset = partitionOffsets.takeCommittable();
+                if (offset != -1) {
+                    offsets.put(topicPartition, new OffsetAndMetadata(offset));
+                }
+            }
+        );
+        return offsets;
+    }
+
+    static class PartitionOffsets {
+        private long[] offsets = new long[64];
+        private boolean[] completed = new boolean[64];
+        private boolean[] dispatched = new boolean[64];
+        private int head;
+        private int size;
+        private long committable = -1;
+        private long lastTracked = -1;
+        private boolean full;
+        private boolean revoked;
+        private int running;
+        private CompletableFuture<Void> idle;
+
+        synchronized void track(long offset) {
+            if (offset <= lastTracked) {
+                head = 0;
+                size = 0;
+                committable = -1;
+                running = 0;
+                full = false;
+                if (idle != null) {
+                    idle.complete(null);
+                }
+            }
+            lastTracked = offset;
+            if (size == offsets.length) {
+                grow();
+            }
+            var index = (head + size) % offsets.length;
+            offsets[index] = offset;
+            completed[index] = false;
+            dispatched[index] = false;
+            size++;
+        }
+
+        synchronized void complete(long offset) {
+            var position = find(offset);
+            if (position == -1) {
+                return;
+            }
+            var index = (head + position) % offsets.length;
+            if (completed[index]) {
+                return;
+            }
+            completed[index] = true;
+            if (dispatched[index] && --running == 0 && idle != null) {
+                idle.complete(null);
+            }
+
+            while (size > 0 && completed[head]) {
+                committable = offsets[head] + 1;
+                head = (head + 1) % offsets.length;
+                size--;
+            }
+        }
+
+        synchronized boolean fill(int window) {
+            if (full || size < window) {
+                return false;
+            }
+            full = true;
+            return true;
+        }
+
+        synchronized boolean drain(int lowWatermark) {
+            if (!full || size > lowWatermark) {
+                return false;
+            }
+            full = false;
+            return true;
+        }
+
+        synchronized boolean dispatch(long offset) {
+            var position = revoked ? -1 : find(offset);
+            if (position == -1) {
+                return false;
+            }
+            var index = (head + position) % offsets.length;
+            if (completed[index] || dispatched[index]) {
+                return false;
+            }
+            dispatched[index] = true;
+            running++;
+            return true;
+        }
+
+        synchronized CompletableFuture<Void> revoke() {
+            revoked = true;
+            if (running == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (idle == null) {
+                idle = new CompletableFuture<>();
+            }
+            return idle;
+        }
+
+        synchronized long takeCommittable() {
+            var offset = committable;
+            committable = -1;
+            return offset;
+        }
+
+        private int find(long offset) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                var middle = (low + high) >>> 1;
+                var value = offsets[(head + middle) % offsets.length];
+                if (value < offset) {
+                    low = middle + 1;
+                } else if (value > offset) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private void grow() {
+            var grownOffsets = new long[offsets.length * 2];
+            var grownCompleted = new boolean[offsets.length * 2];
+            var grownDispatched = new boolean[offsets.length * 2];
+            for (var i = 0; i < size; i++) {
+                grownOffsets[i] = offsets[(head + i) % offsets.length];
+                grownCompleted[i] = completed[(head + i) % offsets.length];
+                grownDispatched[i] = dispatched[(head + i) % offsets.length];
+            }
+            offsets = grownOffsets;
+            completed = grownCompleted;
+            dispatched = grownDispatched;
+            head = 0;
+        }
+    }
+}
@@ -11,13 +11,13 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 
 public class Producer {
-    private KafkaProducer<String, String> producer;
+    private KafkaProducer<String, byte[]> producer;
 
-    public Producer(KafkaProducer<String, String> producer) {
+    public Producer(KafkaProducer<String, byte[]> producer) {
         this.producer = producer;
     }
 
-    public void produce(String topic, ConsumerRecord<String, String> record) {
+    public void produce(String topic, ConsumerRecord<String, byte[]> record) {
         Iterator<Header> headers = record.headers().headers(Config.ORIGINAL_TOPIC).iterator();
         Headers headersToSend;
         if (headers.hasNext()) {
@@ -28,7 +28,7 @@ public class Producer {
         }
 
         producer.send(
-            new ProducerRecord<String, String>(topic, null, record.key(), record.value(), headersToSend),
+            new ProducerRecord<String, byte[]>(topic, null, record.key(), record.value(), headersToSend),
             (metadata, err) -> {
                 if (err != null) {
                     Monitor.produceError(topic, record, err);
@@ -0,0 +1,103 @@
+package kafka;
+
+import configuration.Config;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import monitoring.Monitor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.json.JSONObject;
+import utils.TokenBucket;
+
+public class RateLimiter {
+    private final TokenBucket records;
+    private final TokenBucket bytes;
+    private final Map<String, TokenBucket> topicRecords = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> topicBytes = new ConcurrentHashMap<>();
+    private final TokenBucket throttle = new TokenBucket(0, 0);
+    private long windowStart = System.nanoTime();
+    private long windowRecords;
+    private double recordsPerSecond;
+
+    public RateLimiter() {
+        records = new TokenBucket(Config.RATE_LIMIT_RECORDS_PER_SECOND, Config.RATE_LIMIT_BURST);
+        bytes = new TokenBucket(Config.RATE_LIMIT_BYTES_PER_SECOND, Config.RATE_LIMIT_BURST);
+        Config.RATE_LIMIT_TOPIC_RECORDS_PER_SECOND.forEach((topic, rate) -> setRecordsPerSecond(topic, rate));
+        Config.RATE_LIMIT_TOPIC_BYTES_PER_SECOND.forEach((topic, rate) -> setBytesPerSecond(topic, rate));
+    }
+
+    long reserve(ConsumerRecord<?, ?> record) {
+        var size = Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+        var waitNanos = Math.max(Math.max(records.reserve(1), bytes.reserve(size)), throttle.reserve(1));
+        measure();
+
+        var topicRecordsBucket = topicRecords.get(record.topic());
+        if (topicRecordsBucket != null) {
+            waitNanos = Math.max(waitNanos, topicRecordsBucket.reserve(1));
+        }
+        var topicBytesBucket = topicBytes.get(record.topic());
+        if (topicBytesBucket != null) {
+            waitNanos = Math.max(waitNanos, topicBytesBucket.reserve(size));
+        }
+        return waitNanos;
+    }
+
+    public void setRecordsPerSecond(String topic, double rate) {
+        setRate(topic == null ? records : topicRecords.computeIfAbsent(topic, __ -> new TokenBucket(0, 0)), rate);
+        Monitor.rateLimitChanged(topic, "records", rate);
+    }
+
+    public void setBytesPerSecond(String topic, double rate) {
+        setRate(topic == null ? bytes : topicBytes.computeIfAbsent(topic, __ -> new TokenBucket(0, 0)), rate);
+        Monitor.rateLimitChanged(topic, "bytes", rate);
+    }
+
+    public synchronized void throttle(int percent) {
+        var current = throttle.getRate() > 0 ? Math.min(throttle.getRate(), recordsPerSecond) : recordsPerSecond;
+        if (current == 0) {
+            return;
+        }
+        var rate = Math.max(1, current * percent / 100);
+        setRate(throttle, rate);
+        Monitor.rateLimitChanged(null, "backpressure", rate);
+    }
+
+    public synchronized void unthrottle() {
+        if (throttle.getRate() == 0) {
+            return;
+        }
+        setRate(throttle, 0);
+        Monitor.rateLimitChanged(null, "backpressure", 0);
+    }
+
+    private synchronized void measure() {
+        windowRecords++;
+        var now = System.nanoTime();
+        if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+            recordsPerSecond = windowRecords * (double) TimeUnit.SECONDS.toNanos(1) / (now - windowStart);
+            windowStart = now;
+            windowRecords = 0;
+        }
+    }
+
+    public JSONObject toJson() {
+        var topics = new JSONObject();
+        topicRecords.forEach((topic, bucket) -> topics.put(topic, new JSONObject().put("records", bucket.getRate())));
+        topicBytes.forEach(
+            (topic, bucket) -> {
+                var limits = topics.optJSONObject(topic);
+                topics.put(topic, (limits == null ? new JSONObject() : limits).put("bytes", bucket.getRate()));
+            }
+        );
+        return new JSONObject()
+            .put("records", records.getRate())
+            .put("bytes", bytes.getRate())
+            .put("burst", Config.RATE_LIMIT_BURST)
+            .put("backpressure", throttle.getRate())
+            .put("topics", topics);
+    }
+
+    private static void setRate(TokenBucket bucket, double rate) {
+        bucket.setRate(rate, Config.RATE_LIMIT_BURST);
+    }
+}
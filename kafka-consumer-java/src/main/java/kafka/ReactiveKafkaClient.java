@@ -3,17 +3,27 @@ package kafka;
 import configuration.Config;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import monitoring.Monitor;
 import org.apache.kafka.clients.consumer.CommitFailedException;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.consumer.RetriableCommitFailedException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.FencedInstanceIdException;
 import org.apache.kafka.common.errors.WakeupException;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
@@ -29,6 +39,14 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
 
     final AtomicBoolean isActive = new AtomicBoolean();
     final AtomicBoolean isClosed = new AtomicBoolean();
+    final AtomicLong requested = new AtomicLong();
+    final AtomicBoolean isPausedAll = new AtomicBoolean();
+    final AtomicInteger suspensions = new AtomicInteger();
+    final AtomicBoolean isRevoking = new AtomicBoolean();
+    final Set<TopicPartition> pausedPartitions = ConcurrentHashMap.newKeySet();
+    volatile Set<TopicPartition> consumerPaused = Set.of();
+    volatile Function<Collection<TopicPartition>, Map<TopicPartition, OffsetAndMetadata>> revocationDrain = __ ->
+        Map.of();
 
     final Scheduler scheduler;
     final PollEvent pollEvent;
@@ -73,6 +91,12 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
 
                     @Override
                     public void request(long n) {
+                        if (!Operators.validate(n)) {
+                            return;
+                        }
+                        if (requested.getAndUpdate(current -> Operators.addCap(current, n)) == 0) {
+                            wakeupIfPaused(consumerPaused);
+                        }
                         pollEvent.scheduleIfRequired();
                     }
 
@@ -88,12 +112,53 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
         }
     }
 
-    void poll() {
-        pollEvent.scheduleIfRequired();
+    void pause(Collection<TopicPartition> partitions) {
+        pausedPartitions.addAll(partitions);
+    }
+
+    void resume(Collection<TopicPartition> partitions) {
+        pausedPartitions.removeAll(partitions);
+        wakeupIfPaused(partitions);
+    }
+
+    void pauseAll() {
+        isPausedAll.set(true);
+    }
+
+    void resumeAll() {
+        isPausedAll.set(false);
+        wakeupIfPaused(consumerPaused);
     }
 
-    void commit() {
-        commitEvent.scheduleIfRequired();
+    public void suspend() {
+        suspensions.incrementAndGet();
+    }
+
+    public void restore() {
+        if (suspensions.decrementAndGet() == 0) {
+            wakeupIfPaused(consumerPaused);
+        }
+    }
+
+    private void wakeupIfPaused(Collection<TopicPartition> partitions) {
+        if (isRevoking.get()) {
+            return;
+        }
+        var paused = consumerPaused;
+        for (var partition : partitions) {
+            if (paused.contains(partition)) {
+                consumer.wakeup();
+                return;
+            }
+        }
+    }
+
+    void commit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        commitEvent.scheduleIfRequired(offsets);
+    }
+
+    void onRevoke(Function<Collection<TopicPartition>, Map<TopicPartition, OffsetAndMetadata>> drain) {
+        revocationDrain = drain;
     }
 
     @Override
@@ -145,7 +210,7 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
         @Override
         public void run() {
             try {
-                consumer.subscribe(topics, consumerRebalanceListener);
+                consumer.subscribe(topics, new RebalanceListener());
             } catch (Exception e) {
                 if (isActive.get()) {
                     actual.onError(e);
@@ -154,6 +219,38 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
         }
     }
 
+    class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            if (isPausedAll.get() || suspensions.get() > 0 || requested.get() == 0) {
+                consumer.pause(partitions);
+            }
+            consumerRebalanceListener.onPartitionsAssigned(partitions);
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (isActive.get() && !partitions.isEmpty()) {
+                isRevoking.set(true);
+                try {
+                    commitEvent.commitRevoked(partitions, revocationDrain.apply(partitions));
+                } finally {
+                    isRevoking.set(false);
+                }
+            }
+            pausedPartitions.removeAll(partitions);
+            consumerRebalanceListener.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            partitions.forEach(commitEvent.pendingOffsets::remove);
+            pausedPartitions.removeAll(partitions);
+            consumerRebalanceListener.onPartitionsLost(partitions);
+        }
+    }
+
     class PollEvent implements Runnable {
         private final AtomicInteger pendingCount = new AtomicInteger();
         private final Duration pollTimeout = Duration.ofMillis(Config.POLL_TIMEOUT);
@@ -163,12 +260,24 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
             try {
                 if (isActive.get()) {
                     pendingCount.decrementAndGet();
+                    applyPaused();
                     var records = consumer.poll(pollTimeout);
-                    if (records.count() == 0) {
-                        scheduleIfRequired();
-                        return;
+                    if (records.count() > 0) {
+                        if (requested.get() != Long.MAX_VALUE) {
+                            requested.decrementAndGet();
+                        }
+                        actual.onNext(records);
                     }
-                    actual.onNext(records);
+                    scheduleIfRequired();
+                }
+            } catch (WakeupException e) {
+                if (isActive.get()) {
+                    scheduleIfRequired();
+                }
+            } catch (FencedInstanceIdException e) {
+                Monitor.instanceFenced(e);
+                if (isActive.get()) {
+                    actual.onError(e);
                 }
             } catch (Exception e) {
                 if (isActive.get()) {
@@ -177,10 +286,36 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
             }
         }
 
+        private void applyPaused() {
+            var assignment = consumer.assignment();
+            var paused = consumer.paused();
+            var pausedAll = isPausedAll.get() || suspensions.get() > 0 || requested.get() == 0;
+
+            var toPause = new HashSet<TopicPartition>();
+            for (var partition : assignment) {
+                if ((pausedAll || pausedPartitions.contains(partition)) && !paused.contains(partition)) {
+                    toPause.add(partition);
+                }
+            }
+            var toResume = new HashSet<TopicPartition>();
+            for (var partition : paused) {
+                if (!pausedAll && !pausedPartitions.contains(partition) && assignment.contains(partition)) {
+                    toResume.add(partition);
+                }
+            }
+
+            if (!toPause.isEmpty()) {
+                consumer.pause(toPause);
+            }
+            if (!toResume.isEmpty()) {
+                consumer.resume(toResume);
+            }
+            consumerPaused = Set.copyOf(consumer.paused());
+        }
+
         void scheduleIfRequired() {
-            if (pendingCount.get() <= 0) {
+            if (pendingCount.compareAndSet(0, 1)) {
                 scheduler.schedule(this);
-                pendingCount.incrementAndGet();
             }
         }
     }
@@ -188,16 +323,26 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
     class CommitEvent implements Runnable {
         private final AtomicBoolean isPending = new AtomicBoolean();
         private final AtomicInteger inProgress = new AtomicInteger();
+        private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new ConcurrentHashMap<>();
 
         @Override
         public void run() {
             if (!isPending.compareAndSet(true, false)) {
                 return;
             }
+            var offsets = new HashMap<>(pendingOffsets);
+            offsets.forEach(pendingOffsets::remove);
+            if (offsets.isEmpty()) {
+                return;
+            }
             try {
                 inProgress.incrementAndGet();
                 consumer.commitAsync(
+                    offsets,
                     (__, error) -> {
+                        if (error instanceof FencedInstanceIdException) {
+                            Monitor.instanceFenced(error);
+                        }
                         if (
                             error != null &&
                             !(error instanceof RetriableCommitFailedException) &&
@@ -220,12 +365,48 @@ public class ReactiveKafkaClient<K, V> extends Flux<ConsumerRecords<K, V>> imple
             if (isPending.get()) run();
         }
 
-        void scheduleIfRequired() {
+        void scheduleIfRequired(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            offsets.forEach(
+                (topicPartition, offset) -> pendingOffsets.merge(
+                    topicPartition,
+                    offset,
+                    (current, next) -> current.offset() >= next.offset() ? current : next
+                )
+            );
             if (isActive.get() && isPending.compareAndSet(false, true)) {
                 scheduler.schedule(this);
             }
         }
 
+        void commitRevoked(Collection<TopicPartition> partitions, Map<TopicPartition, OffsetAndMetadata> drained) {
+            var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+            for (var partition : partitions) {
+                var pending = pendingOffsets.remove(partition);
+                var offset = drained.get(partition);
+                if (pending != null && (offset == null || pending.offset() > offset.offset())) {
+                    offset = pending;
+                }
+                if (offset != null) {
+                    offsets.put(partition, offset);
+                }
+            }
+            if (offsets.isEmpty()) {
+                return;
+            }
+            int attempts = 3;
+            for (int i = 0; i < attempts; i++) {
+                try {
+                    consumer.commitSync(offsets);
+                    return;
+                } catch (WakeupException e) {
+                    if (i == attempts - 1) Monitor.commitFailed(e);
+                } catch (Exception e) {
+                    Monitor.commitFailed(e);
+                    return;
+                }
+            }
+        }
+
         private void waitFor(long endTimeNanos) {
             while (inProgress.get() > 0 && endTimeNanos - System.nanoTime() > 0) {
                 consumer.poll(Duration.ofMillis(1));
@@ -0,0 +1,210 @@
+package kafka;
+
+import configuration.Config;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import monitoring.Monitor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import utils.MappedSegmentLog;
+
+public class RetryStore {
+    private final MappedSegmentLog log;
+    private final PriorityQueue<Retry> due = new PriorityQueue<>(Comparator.comparingLong(retry -> retry.dueTime));
+    private final Map<ConsumerRecord<String, byte[]>, Integer> replaying = new IdentityHashMap<>();
+
+    public RetryStore() throws IOException {
+        log =
+            new MappedSegmentLog(
+                Paths.get(Config.RETRY_STORE_DIRECTORY),
+                Config.RETRY_STORE_SEGMENT_BYTES,
+                Config.RETRY_STORE_MAX_BYTES
+            );
+        for (var entry : log.recovered()) {
+            due.add(new Retry(entry, decodeDueTime(log.read(entry))));
+        }
+        Monitor.retryStorePending(due.size(), log.pendingBytes());
+    }
+
+    public boolean store(ConsumerRecord<String, byte[]> record) {
+        try {
+            synchronized (this) {
+                var attempt = replaying.getOrDefault(record, 0) + 1;
+                if (attempt > Config.RETRY_STORE_MAX_ATTEMPTS) {
+                    return false;
+                }
+                var dueTime = System.currentTimeMillis() + backoff(attempt);
+                var entry = log.append(encode(record, dueTime, attempt));
+                if (entry == null) {
+                    return false;
+                }
+                due.add(new Retry(entry, dueTime));
+                Monitor.retryStorePending(due.size() + replaying.size(), log.pendingBytes());
+            }
+            Monitor.retryStored(record);
+            return true;
+        } catch (IOException e) {
+            Monitor.retryStoreError(e);
+            return false;
+        }
+    }
+
+    Flux<?> replay(Function<ConsumerRecord<String, byte[]>, Mono<?>> call) {
+        return Flux
+            .interval(Duration.ofMillis(Config.RETRY_STORE_POLL_INTERVAL))
+            .onBackpressureDrop()
+            .concatMapIterable(__ -> poll())
+            .flatMap(
+                retry -> call
+                    .apply(retry.record)
+                    .onErrorResume(
+                        e -> {
+                            Monitor.retryStoreError(e);
+                            return Mono.empty();
+                        }
+                    )
+                    .doFinally(__ -> complete(retry)),
+                Config.RETRY_STORE_MAX_IN_FLIGHT
+            );
+    }
+
+    private synchronized List<Retry> poll() {
+        var now = System.currentTimeMillis();
+        var retries = new ArrayList<Retry>();
+        while (
+            !due.isEmpty() &&
+            due.peek().dueTime <= now &&
+            replaying.size() + retries.size() < Config.RETRY_STORE_MAX_IN_FLIGHT
+        ) {
+            var retry = due.poll();
+            var payload = log.read(retry.entry);
+            try {
+                retry.record = decodeRecord(payload);
+                replaying.put(retry.record, decodeAttempt(payload));
+                retries.add(retry);
+            } catch (IOException e) {
+                Monitor.retryStoreError(e);
+                log.complete(retry.entry);
+            }
+        }
+        return retries;
+    }
+
+    private synchronized void complete(Retry retry) {
+        replaying.remove(retry.record);
+        log.complete(retry.entry);
+        Monitor.retryStorePending(due.size() + replaying.size(), log.pendingBytes());
+    }
+
+    private static long backoff(int attempt) {
+        var delay = Config.RETRY_STORE_BACKOFF.get(0);
+        var maxDelay = Config.RETRY_STORE_BACKOFF.get(1);
+        var delayFactor = Config.RETRY_STORE_BACKOFF.get(2);
+        return (long) Math.min(maxDelay, delay * Math.pow(delayFactor, attempt - 1));
+    }
+
+    private static byte[] encode(ConsumerRecord<String, byte[]> record, long dueTime, int attempt) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.writeLong(dueTime);
+        out.writeInt(attempt);
+        out.writeUTF(record.topic());
+        out.writeInt(record.partition());
+        out.writeLong(record.offset());
+        out.writeLong(record.timestamp());
+        writeBytes(out, record.key() == null ? null : record.key().getBytes(StandardCharsets.UTF_8));
+        writeBytes(out, record.value());
+        var headers = record.headers().toArray();
+        out.writeInt(headers.length);
+        for (var header : headers) {
+            out.writeUTF(header.key());
+            writeBytes(out, header.value());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long decodeDueTime(byte[] payload) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(payload)).readLong();
+    }
+
+    private static int decodeAttempt(byte[] payload) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(payload));
+        in.readLong();
+        return in.readInt();
+    }
+
+    private static ConsumerRecord<String, byte[]> decodeRecord(byte[] payload) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(payload));
+        in.readLong();
+        in.readInt();
+        var topic = in.readUTF();
+        var partition = in.readInt();
+        var offset = in.readLong();
+        var timestamp = in.readLong();
+        var key = readBytes(in);
+        var value = readBytes(in);
+        var headers = new RecordHeaders();
+        for (var i = in.readInt(); i > 0; i--) {
+            headers.add(in.readUTF(), readBytes(in));
+        }
+        return new ConsumerRecord<String, byte[]>(
+            topic,
+            partition,
+            offset,
+            timestamp,
+            TimestampType.CREATE_TIME,
+            null,
+            key == null ? -1 : key.length,
+            value == null ? -1 : value.length,
+            key == null ? null : new String(key, StandardCharsets.UTF_8),
+            value,
+            headers
+        );
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        var length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static class Retry {
+        private final MappedSegmentLog.Entry entry;
+        private final long dueTime;
+        private ConsumerRecord<String, byte[]> record;
+
+        Retry(MappedSegmentLog.Entry entry, long dueTime) {
+            this.entry = entry;
+            this.dueTime = dueTime;
+        }
+    }
+}
@@ -4,11 +4,17 @@ import configuration.Config;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.json.JSONObject;
@@ -27,6 +33,26 @@ public class Monitor {
     private static Histogram callTargetLatency;
     private static Histogram resultTargetLatency;
     private static Gauge assignedPartitions;
+    private static Gauge targetConcurrencyLimit;
+    private static Histogram targetEndpointLatency;
+    private static Counter targetEndpointEjected;
+    private static Counter targetAffinityHit;
+    private static Counter targetAffinitySpill;
+    private static Gauge targetCircuitOpen;
+    private static Gauge targetBackpressureInFlightBudget;
+    private static Counter retryStored;
+    private static Gauge retryStorePendingRecords;
+    private static Gauge retryStorePendingBytes;
+    private static Gauge executorQueueDepth;
+    private static Gauge startupDuration;
+    private static Counter recordFiltered;
+    private static Counter recordHeaderSkipped;
+    private static Counter dedupCacheHit;
+    private static Counter dedupCacheMiss;
+    private static Gauge dedupCacheSize;
+    private static final Set<String> startupPhases = ConcurrentHashMap.newKeySet();
+    private static volatile boolean firstRecordProcessed;
+    private static Gauge executorActiveThreads;
 
     private static double[] buckets = new double[0];
 
@@ -42,6 +68,14 @@ public class Monitor {
 
         assignedPartitions = Gauge.build().name("assigned_partitions").help("assigned_partitions").register();
 
+        targetConcurrencyLimit =
+            Gauge
+                .build()
+                .labelNames("target")
+                .name("target_concurrency_limit")
+                .help("target_concurrency_limit")
+                .register();
+
         messageLatency =
             Histogram
                 .build()
@@ -83,6 +117,86 @@ public class Monitor {
 
         retryProduced = Counter.build().name("retry_produced").help("retry_produced").register();
 
+        retryStored = Counter.build().name("retry_stored").help("retry_stored").register();
+
+        retryStorePendingRecords =
+            Gauge.build().name("retry_store_pending_records").help("retry_store_pending_records").register();
+
+        retryStorePendingBytes =
+            Gauge.build().name("retry_store_pending_bytes").help("retry_store_pending_bytes").register();
+
+        recordFiltered = Counter.build().name("record_filtered").help("record_filtered").register();
+
+        recordHeaderSkipped = Counter.build().name("record_header_skipped").help("record_header_skipped").register();
+
+        dedupCacheHit = Counter.build().name("dedup_cache_hit").help("dedup_cache_hit").register();
+
+        dedupCacheMiss = Counter.build().name("dedup_cache_miss").help("dedup_cache_miss").register();
+
+        dedupCacheSize = Gauge.build().name("dedup_cache_size").help("dedup_cache_size").register();
+
+        targetEndpointLatency =
+            Histogram
+                .build()
+                .buckets(buckets)
+                .labelNames("target", "endpoint")
+                .name("target_endpoint_latency")
+                .help("target_endpoint_latency")
+                .register();
+
+        targetEndpointEjected =
+            Counter
+                .build()
+                .labelNames("target", "endpoint")
+                .name("target_endpoint_ejected")
+                .help("target_endpoint_ejected")
+                .register();
+
+        targetAffinityHit =
+            Counter.build().labelNames("target").name("target_affinity_hit").help("target_affinity_hit").register();
+
+        targetAffinitySpill =
+            Counter
+                .build()
+                .labelNames("target")
+                .name("target_affinity_spill")
+                .help("target_affinity_spill")
+                .register();
+
+        targetCircuitOpen =
+            Gauge.build().labelNames("target").name("target_circuit_open").help("target_circuit_open").register();
+
+        targetBackpressureInFlightBudget =
+            Gauge
+                .build()
+                .name("target_backpressure_in_flight_budget")
+                .help("target_backpressure_in_flight_budget")
+                .register();
+
+        startupDuration =
+            Gauge
+                .build()
+                .labelNames("phase")
+                .name("startup_duration_seconds")
+                .help("startup_duration_seconds")
+                .register();
+
+        executorQueueDepth =
+            Gauge
+                .build()
+                .labelNames("executor")
+                .name("executor_queue_depth")
+                .help("executor_queue_depth")
+                .register();
+
+        executorActiveThreads =
+            Gauge
+                .build()
+                .labelNames("executor")
+                .name("executor_active_threads")
+                .help("executor_active_threads")
+                .register();
+
         deadLetterProduced = Counter.build().name("dead_letter_produced").help("dead_letter_produced").register();
 
         produceError = Counter.build().name("produce_error").help("produce_error").register();
@@ -116,7 +230,7 @@ public class Monitor {
         processBatchExecutionTime.observe((double) executionTimeMs / 1000);
     }
 
-    public static void processRecord(ConsumerRecord<String, String> record) {
+    public static void processRecord(ConsumerRecord<String, byte[]> record) {
         messageLatency.labels(record.topic()).observe(((double) (new Date().getTime() - record.timestamp())) / 1000);
         processMessageStarted.inc();
     }
@@ -129,19 +243,142 @@ public class Monitor {
         resultTargetLatency.observe((double) latency / 1000);
     }
 
+    public static void concurrencyLimit(String target, int limit) {
+        targetConcurrencyLimit.labels(target).set(limit);
+    }
+
+    public static void endpointLatency(String target, String endpoint, long latency) {
+        targetEndpointLatency.labels(target, endpoint).observe((double) latency / 1000);
+    }
+
+    public static void endpointEjected(String target, String endpoint, long duration) {
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "target endpoint ejected")
+            .put("extra", new JSONObject().put("target", target).put("endpoint", endpoint).put("duration", duration));
+
+        write(log);
+        targetEndpointEjected.labels(target, endpoint).inc();
+    }
+
+    public static void affinityHit(String target) {
+        targetAffinityHit.labels(target).inc();
+    }
+
+    public static void affinitySpill(String target) {
+        targetAffinitySpill.labels(target).inc();
+    }
+
+    public static void circuitOpened(String target, int failures) {
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "target circuit opened")
+            .put("extra", new JSONObject().put("target", target).put("consecutiveFailures", failures));
+
+        write(log);
+        targetCircuitOpen.labels(target).set(1);
+    }
+
+    public static void circuitClosed(String target, long openDuration) {
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "target circuit closed")
+            .put("extra", new JSONObject().put("target", target).put("openDuration", openDuration));
+
+        write(log);
+        targetCircuitOpen.labels(target).set(0);
+    }
+
+    public static void backpressureThrottled(int inFlightBudget, long period) {
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "target backpressure throttled")
+            .put("extra", new JSONObject().put("inFlightBudget", inFlightBudget).put("period", period));
+
+        write(log);
+        targetBackpressureInFlightBudget.set(inFlightBudget);
+    }
+
+    public static void backpressureRelieved() {
+        JSONObject log = new JSONObject().put("level", "info").put("message", "target backpressure relieved");
+
+        write(log);
+        targetBackpressureInFlightBudget.set(0);
+    }
+
+    public static void endpointsChanged(String target, List<String> endpoints) {
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "target endpoints changed")
+            .put("extra", new JSONObject().put("target", target).put("endpoints", endpoints));
+
+        write(log);
+    }
+
+    public static void endpointsResolveError(String target, Throwable exception) {
+        JSONObject log = new JSONObject()
+            .put("level", "error")
+            .put("message", "target endpoints resolve failed")
+            .put("extra", new JSONObject().put("target", target))
+            .put(
+                "err",
+                new JSONObject().put("errorMessages", getErrorMessages(exception)).put("class", exception.getClass())
+            );
+
+        write(log);
+    }
+
     public static void processMessageSuccess(long executionStart) {
+        if (!firstRecordProcessed) {
+            firstRecordProcessed = true;
+            startupPhase("first_record_processed");
+        }
         processMessageExecutionTime.observe(((double) (new Date().getTime() - executionStart)) / 1000);
         processMessageSuccess.inc();
     }
 
+    public static void recordFiltered() {
+        recordFiltered.inc();
+    }
+
+    public static void recordHeaderSkipped() {
+        recordHeaderSkipped.inc();
+    }
+
+    public static void dedupCacheHit() {
+        dedupCacheHit.inc();
+    }
+
+    public static void dedupCacheMiss() {
+        dedupCacheMiss.inc();
+    }
+
+    public static void dedupCacheSize(int size) {
+        dedupCacheSize.set(size);
+    }
+
+    public static void startupPhase(String phase) {
+        if (!startupPhases.add(phase)) {
+            return;
+        }
+        var uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        startupDuration.labels(phase).set((double) uptime / 1000);
+
+        JSONObject log = new JSONObject()
+            .put("level", "info")
+            .put("message", "startup phase completed")
+            .put("extra", new JSONObject().put("phase", phase).put("uptime", uptime));
+        write(log);
+    }
+
     public static void processMessageError() {
         processMessageError.inc();
     }
 
-    public static void retryProduced(ConsumerRecord<String, String> consumerRecord) {
+    public static void retryProduced(ConsumerRecord<String, byte[]> consumerRecord) {
         var extra = new JSONObject().put("message", new JSONObject().put("key", consumerRecord.key()));
         if (Config.LOG_RECORD) {
-            extra.put("value", consumerRecord.value());
+            extra.put("value", getValue(consumerRecord));
         }
         JSONObject log = new JSONObject().put("level", "info").put("message", "retry produced").put("extra", extra);
         write(log);
@@ -149,10 +386,61 @@ public class Monitor {
         retryProduced.inc();
     }
 
-    public static void deadLetterProcdued(ConsumerRecord<String, String> consumerRecord) {
+    public static void retryStored(ConsumerRecord<String, byte[]> consumerRecord) {
         var extra = new JSONObject().put("message", new JSONObject().put("key", consumerRecord.key()));
         if (Config.LOG_RECORD) {
-            extra.put("value", consumerRecord.value());
+            extra.put("value", getValue(consumerRecord));
+        }
+        JSONObject log = new JSONObject().put("level", "info").put("message", "retry stored").put("extra", extra);
+        write(log);
+
+        retryStored.inc();
+    }
+
+    public static void retryStorePending(int records, long bytes) {
+        retryStorePendingRecords.set(records);
+        retryStorePendingBytes.set(bytes);
+    }
+
+    public static void executorCreated(String name, ThreadPoolExecutor executor) {
+        executorQueueDepth.setChild(
+            new Gauge.Child() {
+
+                @Override
+                public double get() {
+                    return executor.getQueue().size();
+                }
+            },
+            name
+        );
+        executorActiveThreads.setChild(
+            new Gauge.Child() {
+
+                @Override
+                public double get() {
+                    return executor.getActiveCount();
+                }
+            },
+            name
+        );
+    }
+
+    public static void retryStoreError(Throwable exception) {
+        JSONObject log = new JSONObject()
+            .put("level", "error")
+            .put("message", "retry store failed")
+            .put(
+                "err",
+                new JSONObject().put("errorMessages", getErrorMessages(exception)).put("class", exception.getClass())
+            );
+
+        write(log);
+    }
+
+    public static void deadLetterProcdued(ConsumerRecord<String, byte[]> consumerRecord) {
+        var extra = new JSONObject().put("message", new JSONObject().put("key", consumerRecord.key()));
+        if (Config.LOG_RECORD) {
+            extra.put("value", getValue(consumerRecord));
         }
         JSONObject log = new JSONObject()
             .put("level", "info")
@@ -194,6 +482,19 @@ public class Monitor {
         write(log);
     }
 
+    public static void instanceFenced(Throwable exception) {
+        JSONObject log = new JSONObject()
+            .put("level", "error")
+            .put("message", "consumer instance fenced")
+            .put("extra", new JSONObject().put("groupInstanceId", Config.GROUP_INSTANCE_ID))
+            .put(
+                "err",
+                new JSONObject().put("errorMessages", getErrorMessages(exception)).put("class", exception.getClass())
+            );
+
+        write(log);
+    }
+
     public static void consumerCompleted() {
         JSONObject log = new JSONObject().put("level", "error").put("message", "consumer stream was completed");
         write(log);
@@ -252,10 +553,10 @@ public class Monitor {
         write(log);
     }
 
-    public static void produceError(String topic, ConsumerRecord<String, String> consumerRecord, Throwable exception) {
+    public static void produceError(String topic, ConsumerRecord<String, byte[]> consumerRecord, Throwable exception) {
         var extra = new JSONObject().put("message", new JSONObject().put("key", consumerRecord.key()));
         if (Config.LOG_RECORD) {
-            extra.put("value", consumerRecord.value());
+            extra.put("value", getValue(consumerRecord));
         }
         JSONObject log = new JSONObject()
             .put("level", "error")
@@ -268,8 +569,24 @@ public class Monitor {
         produceError.inc();
     }
 
+    public static void parkedRecordFailed(ConsumerRecord<String, byte[]> consumerRecord, Throwable exception) {
+        var extra = new JSONObject().put("message", new JSONObject().put("key", consumerRecord.key()));
+        if (Config.LOG_RECORD) {
+            extra.put("value", getValue(consumerRecord));
+        }
+        JSONObject log = new JSONObject()
+            .put("level", "error")
+            .put("message", "parked record failed")
+            .put("extra", extra)
+            .put("err", new JSONObject().put("message", exception.getMessage()).put("class", exception.getClass()));
+
+        write(log);
+
+        processMessageError.inc();
+    }
+
     public static void targetExecutionRetry(
-        ConsumerRecord<String, String> consumerRecord,
+        ConsumerRecord<String, byte[]> consumerRecord,
         Optional<String> responseBody,
         Throwable exception,
         int attempt
@@ -277,7 +594,7 @@ public class Monitor {
         var extra = new JSONObject();
         extra.put("message", new JSONObject().put("key", consumerRecord.key()));
         if (Config.LOG_RECORD) {
-            extra.put("value", consumerRecord.value());
+            extra.put("value", getValue(consumerRecord));
         }
         if (responseBody.isPresent()) {
             extra.put("response", responseBody.get());
@@ -299,6 +616,16 @@ public class Monitor {
         targetExecutionRetry.labels(String.valueOf(attempt)).inc();
     }
 
+    public static void rateLimitChanged(String topic, String unit, double rate) {
+        var extra = new JSONObject().put("unit", unit).put("perSecond", rate);
+        if (topic != null) {
+            extra.put("topic", topic);
+        }
+        JSONObject log = new JSONObject().put("level", "info").put("message", "rate limit changed").put("extra", extra);
+
+        write(log);
+    }
+
     public static void targetNotAlive(int targetIsAliveStatusCode) {
         JSONObject log = new JSONObject()
             .put("level", "info")
@@ -317,6 +644,12 @@ public class Monitor {
         write(log);
     }
 
+    private static Object getValue(ConsumerRecord<String, byte[]> consumerRecord) {
+        return consumerRecord.value() == null
+            ? JSONObject.NULL
+            : new String(consumerRecord.value(), StandardCharsets.UTF_8);
+    }
+
     private static void write(JSONObject log) {
         System.out.println(log.toString());
     }
@@ -9,16 +9,25 @@ import io.prometheus.client.exporter.HTTPServer;
 import io.prometheus.client.hotspot.DefaultExports;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kafka.RateLimiter;
 import target.TargetIsAlive;
 
 public class MonitoringServer {
     private final TargetIsAlive targetIsAlive;
-    private boolean consumerAssigned;
-    private boolean consumerDisposed;
+    private final RateLimiter rateLimiter;
+    private final Set<Integer> assignedConsumers = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> disposedConsumers = ConcurrentHashMap.newKeySet();
     private HttpServer server;
 
-    public MonitoringServer(TargetIsAlive targetIsAlive) {
+    public MonitoringServer(TargetIsAlive targetIsAlive, RateLimiter rateLimiter) {
         this.targetIsAlive = targetIsAlive;
+        this.rateLimiter = rateLimiter;
     }
 
     public MonitoringServer start() throws IOException {
@@ -28,6 +37,7 @@ public class MonitoringServer {
 
         server = HttpServer.create(new InetSocketAddress(Config.MONITORING_SERVER_PORT), 0);
         isAliveGetRoute(server);
+        rateLimitRoute(server);
         if (Config.USE_PROMETHEUS) {
             DefaultExports.initialize();
             new HTTPServer(server, CollectorRegistry.defaultRegistry, false);
@@ -37,16 +47,16 @@ public class MonitoringServer {
         return this;
     }
 
-    public void consumerAssigned() {
-        consumerAssigned = true;
+    public void consumerAssigned(int consumer) {
+        assignedConsumers.add(consumer);
     }
 
-    public void consumerRevoked() {
-        consumerAssigned = false;
+    public void consumerRevoked(int consumer) {
+        assignedConsumers.remove(consumer);
     }
 
-    public void consumerDisposed() {
-        consumerDisposed = true;
+    public void consumerDisposed(int consumer) {
+        disposedConsumers.add(consumer);
     }
 
     public void close() {
@@ -66,12 +76,12 @@ public class MonitoringServer {
                         return;
                     }
 
-                    if (!consumerAssigned) {
+                    if (assignedConsumers.size() < Config.CONSUMER_THREADS) {
                         writeResponse(500, exchange);
                         return;
                     }
 
-                    if (consumerDisposed) {
+                    if (!disposedConsumers.isEmpty()) {
                         writeResponse(500, exchange);
                         return;
                     }
@@ -87,6 +97,70 @@ public class MonitoringServer {
         );
     }
 
+    private void rateLimitRoute(final HttpServer server) {
+        final var httpContext = server.createContext("/rateLimit");
+
+        httpContext.setHandler(
+            new HttpHandler() {
+
+                @Override
+                public void handle(final HttpExchange exchange) throws IOException {
+                    if (exchange.getRequestMethod().equals("POST")) {
+                        try {
+                            var query = getQuery(exchange);
+                            var topic = query.get("topic");
+                            var recordsPerSecond = getRate(query, "recordsPerSecond");
+                            var bytesPerSecond = getRate(query, "bytesPerSecond");
+                            if (recordsPerSecond != null) {
+                                rateLimiter.setRecordsPerSecond(topic, recordsPerSecond);
+                            }
+                            if (bytesPerSecond != null) {
+                                rateLimiter.setBytesPerSecond(topic, bytesPerSecond);
+                            }
+                        } catch (NumberFormatException e) {
+                            exchange.sendResponseHeaders(400, -1);
+                            return;
+                        }
+                    } else if (!exchange.getRequestMethod().equals("GET")) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+
+                    writeJsonResponse(rateLimiter.toJson().toString(), exchange);
+                }
+            }
+        );
+    }
+
+    private Map<String, String> getQuery(HttpExchange exchange) {
+        var query = new HashMap<String, String>();
+        var rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (var parameter : rawQuery.split("&")) {
+            var separator = parameter.indexOf('=');
+            if (separator != -1) {
+                query.put(
+                    URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+        return query;
+    }
+
+    private static Double getRate(Map<String, String> query, String name) {
+        if (!query.containsKey(name)) {
+            return null;
+        }
+        var rate = Double.parseDouble(query.get(name));
+        if (!Double.isFinite(rate) || rate < 0) {
+            throw new NumberFormatException(String.format("%1$s must be a non-negative number", name));
+        }
+        return rate;
+    }
+
     private boolean targetAlive(HttpExchange exchange) throws IOException {
         if (Config.TARGET_IS_ALIVE_HTTP_ENDPOINT != null) {
             try {
@@ -98,6 +172,15 @@ public class MonitoringServer {
         return true;
     }
 
+    private void writeJsonResponse(String responseText, HttpExchange exchange) throws IOException {
+        final var os = exchange.getResponseBody();
+        var responseBytes = responseText.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, responseBytes.length);
+        os.write(responseBytes);
+        os.close();
+    }
+
     private void writeResponse(int statusCode, HttpExchange exchange) throws IOException {
         final var os = exchange.getResponseBody();
         var responseText = (statusCode == 500 ? "false" : "true");
@@ -0,0 +1,167 @@
+package target;
+
+import configuration.Config;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import monitoring.Monitor;
+
+public class BackpressureController {
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+    private static final Metadata.Key<String> RETRY_PUSHBACK = Metadata.Key.of(
+        "grpc-retry-pushback-ms",
+        Metadata.ASCII_STRING_MARSHALLER
+    );
+
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private final List<Runnable> throttleListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> reliefListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int budget = Integer.MAX_VALUE;
+    private long until;
+    private long decreasedAt;
+
+    public void onThrottle(Runnable listener) {
+        throttleListeners.add(listener);
+    }
+
+    public void onRelief(Runnable listener) {
+        reliefListeners.add(listener);
+    }
+
+    public CompletableFuture<Void> acquire() {
+        if (budget == Integer.MAX_VALUE) {
+            inFlight.incrementAndGet();
+            return ACQUIRED;
+        }
+        synchronized (this) {
+            if (inFlight.get() < budget) {
+                inFlight.incrementAndGet();
+                return ACQUIRED;
+            }
+            var waiter = new CompletableFuture<Void>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+        if (budget == Integer.MAX_VALUE) {
+            return;
+        }
+        List<CompletableFuture<Void>> acquired;
+        synchronized (this) {
+            acquired = admit();
+        }
+        acquired.forEach(waiter -> waiter.complete(null));
+    }
+
+    public CompletableFuture<Void> afterPeriod() {
+        long remaining;
+        synchronized (this) {
+            remaining = until - System.currentTimeMillis();
+        }
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(
+            () -> {},
+            CompletableFuture.delayedExecutor(remaining, TimeUnit.MILLISECONDS, TargetExecutors.completion)
+        );
+    }
+
+    public void signal(long period) {
+        var throttled = false;
+        int throttledBudget;
+        long deadline;
+        synchronized (this) {
+            var now = System.currentTimeMillis();
+            var active = until > now;
+            until = Math.max(until, now + period);
+            if (!active || now - decreasedAt >= period) {
+                budget = Math.max(1, Math.min(budget, inFlight.get()) * Config.BACKPRESSURE_IN_FLIGHT_PERCENT / 100);
+                decreasedAt = now;
+                throttled = true;
+            }
+            throttledBudget = budget;
+            deadline = until;
+        }
+        if (throttled) {
+            Monitor.backpressureThrottled(throttledBudget, deadline - System.currentTimeMillis());
+            throttleListeners.forEach(Runnable::run);
+        }
+        scheduleRelief(deadline - System.currentTimeMillis());
+    }
+
+    private void relieve() {
+        List<CompletableFuture<Void>> acquired;
+        var relieved = false;
+        synchronized (this) {
+            if (until > System.currentTimeMillis() || budget == Integer.MAX_VALUE) {
+                return;
+            }
+            if (waiters.isEmpty() && inFlight.get() < budget) {
+                budget = Integer.MAX_VALUE;
+                relieved = true;
+            } else {
+                budget =
+                    (int) Math.min(
+                        Integer.MAX_VALUE,
+                        Math.max(budget + 1L, budget * 100L / Math.max(1, Config.BACKPRESSURE_IN_FLIGHT_PERCENT))
+                    );
+            }
+            acquired = admit();
+        }
+        if (relieved) {
+            Monitor.backpressureRelieved();
+            reliefListeners.forEach(Runnable::run);
+        } else {
+            scheduleRelief(Config.BACKPRESSURE_DEFAULT_PERIOD);
+        }
+        acquired.forEach(waiter -> waiter.complete(null));
+    }
+
+    private void scheduleRelief(long delay) {
+        CompletableFuture
+            .delayedExecutor(Math.max(0, delay), TimeUnit.MILLISECONDS, TargetExecutors.completion)
+            .execute(() -> relieve());
+    }
+
+    private List<CompletableFuture<Void>> admit() {
+        var acquired = new ArrayList<CompletableFuture<Void>>();
+        while (!waiters.isEmpty() && inFlight.get() < budget) {
+            inFlight.incrementAndGet();
+            acquired.add(waiters.poll());
+        }
+        return acquired;
+    }
+
+    static OptionalLong period(TargetResponse response, Throwable exception) {
+        if (exception != null) {
+            if (Status.fromThrowable(exception).getCode() != Status.Code.RESOURCE_EXHAUSTED) {
+                return OptionalLong.empty();
+            }
+            var trailers = Status.trailersFromThrowable(exception);
+            var pushback = trailers == null ? null : trailers.get(RETRY_PUSHBACK);
+            return OptionalLong.of(
+                pushback == null || !pushback.matches("[0-9]+")
+                    ? Config.BACKPRESSURE_DEFAULT_PERIOD
+                    : Math.min(Long.parseLong(pushback), Config.BACKPRESSURE_MAX_PERIOD)
+            );
+        }
+        if (response.statusCode != 429 && !response.retryAfter.isPresent()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(
+            Math.min(response.retryAfter.orElse(Config.BACKPRESSURE_DEFAULT_PERIOD), Config.BACKPRESSURE_MAX_PERIOD)
+        );
+    }
+}
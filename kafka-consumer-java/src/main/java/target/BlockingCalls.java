@@ -0,0 +1,59 @@
+package target;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+class BlockingCalls {
+    private final ArrayDeque<Runnable> queued = new ArrayDeque<>();
+    private final Executor executor;
+    private final int maxInFlight;
+    private int running;
+
+    BlockingCalls(String name, int maxInFlight) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.maxInFlight = maxInFlight;
+    }
+
+    <T> CompletableFuture<T> submit(Callable<T> call) {
+        var result = new CompletableFuture<T>();
+        Runnable task = () -> {
+            T value = null;
+            Exception error = null;
+            try {
+                value = call.call();
+            } catch (Exception e) {
+                error = e;
+            }
+            next();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        };
+        synchronized (this) {
+            if (running >= maxInFlight) {
+                queued.add(task);
+                return result;
+            }
+            running++;
+        }
+        executor.execute(task);
+        return result;
+    }
+
+    private void next() {
+        Runnable task;
+        synchronized (this) {
+            task = queued.poll();
+            if (task == null) {
+                running--;
+                return;
+            }
+        }
+        executor.execute(task);
+    }
+}
@@ -1,10 +1,13 @@
 package target;
 
 import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ClientCalls.asyncBidiStreamingCall;
 import static io.grpc.stub.ClientCalls.asyncUnaryCall;
 import static io.grpc.stub.ClientCalls.blockingUnaryCall;
 import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncBidiStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
 
 /**
@@ -55,6 +58,82 @@ public final class CallTargetGrpc {
         return getCallTargetMethod;
     }
 
+    private static volatile io.grpc.MethodDescriptor<Message.CallTargetBatchPayload, Message.CallTargetBatchResponse> getCallTargetBatchMethod;
+
+    @io.grpc.stub.annotations.RpcMethod(
+        fullMethodName = SERVICE_NAME + '/' + "callTargetBatch",
+        requestType = Message.CallTargetBatchPayload.class,
+        responseType = Message.CallTargetBatchResponse.class,
+        methodType = io.grpc.MethodDescriptor.MethodType.UNARY
+    )
+    public static io.grpc.MethodDescriptor<Message.CallTargetBatchPayload, Message.CallTargetBatchResponse> getCallTargetBatchMethod() {
+        io.grpc.MethodDescriptor<Message.CallTargetBatchPayload, Message.CallTargetBatchResponse> getCallTargetBatchMethod;
+        if ((getCallTargetBatchMethod = CallTargetGrpc.getCallTargetBatchMethod) == null) {
+            synchronized (CallTargetGrpc.class) {
+                if ((getCallTargetBatchMethod = CallTargetGrpc.getCallTargetBatchMethod) == null) {
+                    CallTargetGrpc.getCallTargetBatchMethod =
+                        getCallTargetBatchMethod =
+                            io
+                                .grpc.MethodDescriptor.<Message.CallTargetBatchPayload, Message.CallTargetBatchResponse>newBuilder()
+                                .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+                                .setFullMethodName(generateFullMethodName(SERVICE_NAME, "callTargetBatch"))
+                                .setSampledToLocalTracing(true)
+                                .setRequestMarshaller(
+                                    io.grpc.protobuf.ProtoUtils.marshaller(
+                                        Message.CallTargetBatchPayload.getDefaultInstance()
+                                    )
+                                )
+                                .setResponseMarshaller(
+                                    io.grpc.protobuf.ProtoUtils.marshaller(
+                                        Message.CallTargetBatchResponse.getDefaultInstance()
+                                    )
+                                )
+                                .setSchemaDescriptor(new CallTargetMethodDescriptorSupplier("callTargetBatch"))
+                                .build();
+                }
+            }
+        }
+        return getCallTargetBatchMethod;
+    }
+
+    private static volatile io.grpc.MethodDescriptor<Message.CallTargetPayload, Message.CallTargetResponse> getCallTargetStreamMethod;
+
+    @io.grpc.stub.annotations.RpcMethod(
+        fullMethodName = SERVICE_NAME + '/' + "callTargetStream",
+        requestType = Message.CallTargetPayload.class,
+        responseType = Message.CallTargetResponse.class,
+        methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING
+    )
+    public static io.grpc.MethodDescriptor<Message.CallTargetPayload, Message.CallTargetResponse> getCallTargetStreamMethod() {
+        io.grpc.MethodDescriptor<Message.CallTargetPayload, Message.CallTargetResponse> getCallTargetStreamMethod;
+        if ((getCallTargetStreamMethod = CallTargetGrpc.getCallTargetStreamMethod) == null) {
+            synchronized (CallTargetGrpc.class) {
+                if ((getCallTargetStreamMethod = CallTargetGrpc.getCallTargetStreamMethod) == null) {
+                    CallTargetGrpc.getCallTargetStreamMethod =
+                        getCallTargetStreamMethod =
+                            io
+                                .grpc.MethodDescriptor.<Message.CallTargetPayload, Message.CallTargetResponse>newBuilder()
+                                .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+                                .setFullMethodName(generateFullMethodName(SERVICE_NAME, "callTargetStream"))
+                                .setSampledToLocalTracing(true)
+                                .setRequestMarshaller(
+                                    io.grpc.protobuf.ProtoUtils.marshaller(
+                                        Message.CallTargetPayload.getDefaultInstance()
+                                    )
+                                )
+                                .setResponseMarshaller(
+                                    io.grpc.protobuf.ProtoUtils.marshaller(
+                                        Message.CallTargetResponse.getDefaultInstance()
+                                    )
+                                )
+                                .setSchemaDescriptor(new CallTargetMethodDescriptorSupplier("callTargetStream"))
+                                .build();
+                }
+            }
+        }
+        return getCallTargetStreamMethod;
+    }
+
     /**
      * Creates a new async stub that supports all call types for the service
      */
@@ -89,6 +168,23 @@ public final class CallTargetGrpc {
             asyncUnimplementedUnaryCall(getCallTargetMethod(), responseObserver);
         }
 
+        /**
+         */
+        public void callTargetBatch(
+            Message.CallTargetBatchPayload request,
+            io.grpc.stub.StreamObserver<Message.CallTargetBatchResponse> responseObserver
+        ) {
+            asyncUnimplementedUnaryCall(getCallTargetBatchMethod(), responseObserver);
+        }
+
+        /**
+         */
+        public io.grpc.stub.StreamObserver<Message.CallTargetPayload> callTargetStream(
+            io.grpc.stub.StreamObserver<Message.CallTargetResponse> responseObserver
+        ) {
+            return asyncUnimplementedStreamingCall(getCallTargetStreamMethod(), responseObserver);
+        }
+
         @java.lang.Override
         public final io.grpc.ServerServiceDefinition bindService() {
             return io
@@ -102,6 +198,24 @@ public final class CallTargetGrpc {
                         )
                     )
                 )
+                .addMethod(
+                    getCallTargetBatchMethod(),
+                    asyncUnaryCall(
+                        new MethodHandlers<Message.CallTargetBatchPayload, Message.CallTargetBatchResponse>(
+                            this,
+                            METHODID_CALL_TARGET_BATCH
+                        )
+                    )
+                )
+                .addMethod(
+                    getCallTargetStreamMethod(),
+                    asyncBidiStreamingCall(
+                        new MethodHandlers<Message.CallTargetPayload, Message.CallTargetResponse>(
+                            this,
+                            METHODID_CALL_TARGET_STREAM
+                        )
+                    )
+                )
                 .build();
         }
     }
@@ -131,6 +245,30 @@ public final class CallTargetGrpc {
         ) {
             asyncUnaryCall(getChannel().newCall(getCallTargetMethod(), getCallOptions()), request, responseObserver);
         }
+
+        /**
+         */
+        public void callTargetBatch(
+            Message.CallTargetBatchPayload request,
+            io.grpc.stub.StreamObserver<Message.CallTargetBatchResponse> responseObserver
+        ) {
+            asyncUnaryCall(
+                getChannel().newCall(getCallTargetBatchMethod(), getCallOptions()),
+                request,
+                responseObserver
+            );
+        }
+
+        /**
+         */
+        public io.grpc.stub.StreamObserver<Message.CallTargetPayload> callTargetStream(
+            io.grpc.stub.StreamObserver<Message.CallTargetResponse> responseObserver
+        ) {
+            return asyncBidiStreamingCall(
+                getChannel().newCall(getCallTargetStreamMethod(), getCallOptions()),
+                responseObserver
+            );
+        }
     }
 
     /**
@@ -155,6 +293,12 @@ public final class CallTargetGrpc {
         public Message.CallTargetResponse callTarget(Message.CallTargetPayload request) {
             return blockingUnaryCall(getChannel(), getCallTargetMethod(), getCallOptions(), request);
         }
+
+        /**
+         */
+        public Message.CallTargetBatchResponse callTargetBatch(Message.CallTargetBatchPayload request) {
+            return blockingUnaryCall(getChannel(), getCallTargetBatchMethod(), getCallOptions(), request);
+        }
     }
 
     /**
@@ -181,9 +325,19 @@ public final class CallTargetGrpc {
         ) {
             return futureUnaryCall(getChannel().newCall(getCallTargetMethod(), getCallOptions()), request);
         }
+
+        /**
+         */
+        public com.google.common.util.concurrent.ListenableFuture<Message.CallTargetBatchResponse> callTargetBatch(
+            Message.CallTargetBatchPayload request
+        ) {
+            return futureUnaryCall(getChannel().newCall(getCallTargetBatchMethod(), getCallOptions()), request);
+        }
     }
 
     private static final int METHODID_CALL_TARGET = 0;
+    private static final int METHODID_CALL_TARGET_BATCH = 1;
+    private static final int METHODID_CALL_TARGET_STREAM = 2;
 
     private static final class MethodHandlers<Req, Resp>
         implements
@@ -209,6 +363,12 @@ public final class CallTargetGrpc {
                         (io.grpc.stub.StreamObserver<Message.CallTargetResponse>) responseObserver
                     );
                     break;
+                case METHODID_CALL_TARGET_BATCH:
+                    serviceImpl.callTargetBatch(
+                        (Message.CallTargetBatchPayload) request,
+                        (io.grpc.stub.StreamObserver<Message.CallTargetBatchResponse>) responseObserver
+                    );
+                    break;
                 default:
                     throw new AssertionError();
             }
@@ -217,7 +377,14 @@ public final class CallTargetGrpc {
         @java.lang.Override
         @java.lang.SuppressWarnings("unchecked")
         public io.grpc.stub.StreamObserver<Req> invoke(io.grpc.stub.StreamObserver<Resp> responseObserver) {
-            switch (methodId) { default: throw new AssertionError(); }
+            switch (methodId) {
+                case METHODID_CALL_TARGET_STREAM:
+                    return (io.grpc.stub.StreamObserver<Req>) serviceImpl.callTargetStream(
+                        (io.grpc.stub.StreamObserver<Message.CallTargetResponse>) responseObserver
+                    );
+                default:
+                    throw new AssertionError();
+            }
         }
     }
 
@@ -271,6 +438,8 @@ public final class CallTargetGrpc {
                                 .grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
                                 .setSchemaDescriptor(new CallTargetFileDescriptorSupplier())
                                 .addMethod(getCallTargetMethod())
+                                .addMethod(getCallTargetBatchMethod())
+                                .addMethod(getCallTargetStreamMethod())
                                 .build();
                 }
             }
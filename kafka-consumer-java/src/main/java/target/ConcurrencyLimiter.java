@@ -0,0 +1,149 @@
+package target;
+
+import configuration.Config;
+import configuration.StatusCodeAction;
+import configuration.TargetConfig;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import monitoring.Monitor;
+
+public class ConcurrencyLimiter {
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+    private static final int PROBE_INTERVAL = 1000;
+
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private final String name;
+    private final boolean limited;
+    private final int maxLimit;
+    private double limit;
+    private double smoothedLatency;
+    private double noLoadLatency;
+    private long samples;
+    private int inFlight;
+
+    public ConcurrencyLimiter(TargetConfig targetConfig) {
+        this.name = targetConfig.name;
+        this.limited = Config.ADAPTIVE_CONCURRENCY || targetConfig.maxInFlight > 0;
+        if (Config.ADAPTIVE_CONCURRENCY) {
+            this.maxLimit =
+                targetConfig.maxInFlight > 0
+                    ? Math.min(targetConfig.maxInFlight, Config.CONCURRENCY_LIMIT_MAX)
+                    : Config.CONCURRENCY_LIMIT_MAX;
+            this.limit = Math.min(Config.CONCURRENCY_LIMIT_INITIAL, maxLimit);
+        } else {
+            this.maxLimit = targetConfig.maxInFlight;
+            this.limit = maxLimit;
+        }
+        Monitor.concurrencyLimit(name, (int) limit);
+    }
+
+    public CompletableFuture<TargetResponse> run(Supplier<CompletableFuture<TargetResponse>> call) {
+        return run(call, response -> response);
+    }
+
+    public CompletableFuture<List<TargetResponse>> runBatch(Supplier<CompletableFuture<List<TargetResponse>>> call) {
+        return run(
+            call,
+            responses -> responses
+                .stream()
+                .filter(response -> isDropped(response, null))
+                .findFirst()
+                .orElse(responses.get(0))
+        );
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> call, Function<T, TargetResponse> sample) {
+        if (!limited) {
+            return call.get();
+        }
+        return acquire()
+            .thenCompose(
+                __ -> {
+                    var startTime = System.nanoTime();
+                    try {
+                        return call
+                            .get()
+                            .whenComplete(
+                                (result, error) -> release(
+                                    error == null ? sample.apply(result) : null,
+                                    error,
+                                    System.nanoTime() - startTime
+                                )
+                            );
+                    } catch (RuntimeException e) {
+                        release(null, e, System.nanoTime() - startTime);
+                        throw e;
+                    }
+                }
+            );
+    }
+
+    private synchronized CompletableFuture<Void> acquire() {
+        if (inFlight < (int) limit) {
+            inFlight++;
+            return ACQUIRED;
+        }
+        var waiter = new CompletableFuture<Void>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    private void release(TargetResponse response, Throwable error, long roundTripNanos) {
+        var acquired = new ArrayList<CompletableFuture<Void>>();
+        synchronized (this) {
+            inFlight--;
+            if (Config.ADAPTIVE_CONCURRENCY) {
+                update(isDropped(response, error), getLatency(response, roundTripNanos));
+            }
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                acquired.add(waiters.poll());
+            }
+        }
+        acquired.forEach(waiter -> waiter.complete(null));
+    }
+
+    private void update(boolean dropped, double latency) {
+        var previousLimit = (int) limit;
+        if (++samples % PROBE_INTERVAL == 0) {
+            noLoadLatency = 0;
+        }
+        smoothedLatency = smoothedLatency == 0 ? latency : smoothedLatency * 0.8 + latency * 0.2;
+        noLoadLatency = noLoadLatency == 0 ? smoothedLatency : Math.min(noLoadLatency, smoothedLatency);
+
+        var step = Math.max(1, Math.log10(limit));
+        var queued = limit * (1 - noLoadLatency / Math.max(smoothedLatency, noLoadLatency));
+        if (dropped) {
+            limit = limit * 0.9;
+        } else if (queued > 6 * step) {
+            limit = limit - step;
+        } else if (queued < 3 * step && inFlight + 1 >= limit / 2) {
+            limit = limit + step;
+        }
+        limit = Math.max(Config.CONCURRENCY_LIMIT_MIN, Math.min(maxLimit, limit));
+
+        if ((int) limit != previousLimit) {
+            Monitor.concurrencyLimit(name, (int) limit);
+        }
+    }
+
+    private static boolean isDropped(TargetResponse response, Throwable error) {
+        return (
+            error != null ||
+            response.statusCode == 429 ||
+            StatusCodeAction.of(response.statusCode) == StatusCodeAction.RETRY
+        );
+    }
+
+    private static double getLatency(TargetResponse response, long roundTripNanos) {
+        if (response != null && response.callLatency.isPresent() && response.resultLatency.isPresent()) {
+            return response.callLatency.getAsLong() + response.resultLatency.getAsLong();
+        }
+        return (double) roundTripNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,278 @@
+package target;
+
+import configuration.Config;
+import configuration.StatusCodeAction;
+import configuration.TargetConfig;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import monitoring.Monitor;
+
+public class EndpointBalancer<T> {
+    private static final String DNS_SCHEME = "dns:///";
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final String name;
+    private final String target;
+    private final boolean dns;
+    private final Function<String, T> connect;
+    private final Consumer<T> disconnect;
+    private final AtomicBoolean resolving = new AtomicBoolean();
+    private volatile HashRing<Endpoint<T>> ring = new HashRing<>(List.of(), endpoint -> endpoint.address);
+    private volatile long resolvedAt;
+
+    public EndpointBalancer(TargetConfig targetConfig, Function<String, T> connect, Consumer<T> disconnect) {
+        this.name = targetConfig.name;
+        this.target = targetConfig.target;
+        this.dns = target.startsWith(DNS_SCHEME) && !targetConfig.sendingProtocol.startsWith("grpc");
+        this.connect = connect;
+        this.disconnect = disconnect;
+
+        var addresses = resolve();
+        update(addresses != null ? addresses : List.of(target.substring(DNS_SCHEME.length())));
+    }
+
+    public List<T> clients() {
+        return ring.nodes().stream().map(endpoint -> endpoint.client).collect(Collectors.toList());
+    }
+
+    public CompletableFuture<TargetResponse> run(String key, Function<T, CompletableFuture<TargetResponse>> call) {
+        return run(key, call, response -> response);
+    }
+
+    public CompletableFuture<List<TargetResponse>> runBatch(
+        String key,
+        Function<T, CompletableFuture<List<TargetResponse>>> call
+    ) {
+        return run(
+            key,
+            call,
+            responses -> responses
+                .stream()
+                .filter(response -> StatusCodeAction.of(response.statusCode) == StatusCodeAction.RETRY)
+                .findFirst()
+                .orElse(responses.get(0))
+        );
+    }
+
+    private <R> CompletableFuture<R> run(
+        String key,
+        Function<T, CompletableFuture<R>> call,
+        Function<R, TargetResponse> sample
+    ) {
+        refresh();
+        var endpoint = choose(key);
+        endpoint.outstanding.incrementAndGet();
+        var startTime = System.nanoTime();
+        try {
+            return call
+                .apply(endpoint.client)
+                .whenComplete(
+                    (result, error) -> release(endpoint, error == null ? sample.apply(result) : null, error, startTime)
+                );
+        } catch (RuntimeException e) {
+            release(endpoint, null, e, startTime);
+            throw e;
+        }
+    }
+
+    private Endpoint<T> choose(String key) {
+        var ring = this.ring;
+        var endpoints = ring.nodes();
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        var now = System.currentTimeMillis();
+        if (Config.LOAD_BALANCING_POLICY.equals("least-requests")) {
+            return leastRequests(endpoints, now);
+        }
+        if (Config.LOAD_BALANCING_POLICY.equals("consistent-hash") && key != null) {
+            return consistentHash(ring, key, now);
+        }
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(endpoints.size());
+        var second = (first + 1 + random.nextInt(endpoints.size() - 1)) % endpoints.size();
+        var a = endpoints.get(first);
+        var b = endpoints.get(second);
+        if (a.isEjected(now) || b.isEjected(now)) {
+            return a.isEjected(now) && b.isEjected(now) ? leastRequests(endpoints, now) : a.isEjected(now) ? b : a;
+        }
+        return a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+
+    private Endpoint<T> consistentHash(HashRing<Endpoint<T>> ring, String key, long now) {
+        var endpoints = ring.nodes();
+        var outstanding = endpoints.stream().mapToLong(endpoint -> endpoint.outstanding.get()).sum();
+        var capacity = (long) Math.ceil(
+            (outstanding + 1) * Config.CONSISTENT_HASH_MAX_LOAD_PERCENT / (100.0 * endpoints.size())
+        );
+        var start = ring.locate(key);
+        var owner = ring.get(start);
+        for (var i = 0; i < ring.size(); i++) {
+            var endpoint = ring.get(start + i);
+            if (endpoint.isEjected(now) || endpoint.outstanding.get() >= capacity) {
+                continue;
+            }
+            if (endpoint == owner) {
+                Monitor.affinityHit(name);
+            } else {
+                Monitor.affinitySpill(name);
+            }
+            return endpoint;
+        }
+        Monitor.affinitySpill(name);
+        return leastRequests(endpoints, now);
+    }
+
+    private static <T> Endpoint<T> leastRequests(List<Endpoint<T>> endpoints, long now) {
+        var offset = ThreadLocalRandom.current().nextInt(endpoints.size());
+        Endpoint<T> chosen = null;
+        for (var i = 0; i < endpoints.size(); i++) {
+            var endpoint = endpoints.get((offset + i) % endpoints.size());
+            if (endpoint.isEjected(now)) {
+                continue;
+            }
+            if (chosen == null || endpoint.outstanding.get() < chosen.outstanding.get()) {
+                chosen = endpoint;
+            }
+        }
+        return chosen != null ? chosen : endpoints.get(offset);
+    }
+
+    private void release(Endpoint<T> endpoint, TargetResponse response, Throwable error, long startTime) {
+        endpoint.outstanding.decrementAndGet();
+        Monitor.endpointLatency(name, endpoint.address, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        if (Config.OUTLIER_EJECTION_CONSECUTIVE_FAILURES == 0) {
+            return;
+        }
+
+        var failed = error != null || StatusCodeAction.of(response.statusCode) == StatusCodeAction.RETRY;
+        long duration;
+        synchronized (this) {
+            var now = System.currentTimeMillis();
+            if (!failed) {
+                endpoint.consecutiveFailures = 0;
+                if (now > endpoint.ejectedUntil + Config.OUTLIER_EJECTION_DURATION) {
+                    endpoint.ejections = 0;
+                }
+                return;
+            }
+            if (
+                ++endpoint.consecutiveFailures < Config.OUTLIER_EJECTION_CONSECUTIVE_FAILURES ||
+                endpoint.isEjected(now) ||
+                !canEject(now)
+            ) {
+                return;
+            }
+            endpoint.consecutiveFailures = 0;
+            endpoint.ejections = Math.min(MAX_EJECTION_MULTIPLIER, endpoint.ejections + 1);
+            duration = (long) Config.OUTLIER_EJECTION_DURATION * endpoint.ejections;
+            endpoint.ejectedUntil = now + duration;
+        }
+        Monitor.endpointEjected(name, endpoint.address, duration);
+    }
+
+    private boolean canEject(long now) {
+        var endpoints = ring.nodes();
+        var ejected = endpoints.stream().filter(endpoint -> endpoint.isEjected(now)).count();
+        return (ejected + 1) * 100 <= (long) endpoints.size() * Config.OUTLIER_EJECTION_MAX_PERCENT;
+    }
+
+    private void refresh() {
+        if (
+            !dns ||
+            System.currentTimeMillis() - resolvedAt < Config.TARGET_DNS_REFRESH_INTERVAL ||
+            !resolving.compareAndSet(false, true)
+        ) {
+            return;
+        }
+        CompletableFuture.runAsync(
+            () -> {
+                try {
+                    update(resolve());
+                } finally {
+                    resolving.set(false);
+                }
+            },
+            TargetExecutors.completion
+        );
+    }
+
+    private List<String> resolve() {
+        if (!dns) {
+            return Arrays.stream(target.split(",")).map(String::trim).collect(Collectors.toList());
+        }
+        var address = target.substring(DNS_SCHEME.length());
+        var separator = address.startsWith("[") ? address.indexOf(']') + 1 : address.replaceAll("[:/].*", "").length();
+        var host = address.substring(0, separator).replaceAll("[\\[\\]]", "");
+        var rest = address.substring(separator);
+        try {
+            return Arrays
+                .stream(InetAddress.getAllByName(host))
+                .map(
+                    inetAddress -> inetAddress instanceof Inet6Address
+                        ? "[" + inetAddress.getHostAddress() + "]" + rest
+                        : inetAddress.getHostAddress() + rest
+                )
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (UnknownHostException e) {
+            Monitor.endpointsResolveError(name, e);
+            return null;
+        }
+    }
+
+    private synchronized void update(List<String> addresses) {
+        resolvedAt = System.currentTimeMillis();
+        var current = ring.nodes();
+        if (addresses == null || addresses.equals(current.stream().map(e -> e.address).collect(Collectors.toList()))) {
+            return;
+        }
+
+        var next = new ArrayList<Endpoint<T>>();
+        for (var address : addresses) {
+            next.add(
+                current
+                    .stream()
+                    .filter(endpoint -> endpoint.address.equals(address))
+                    .findFirst()
+                    .orElseGet(() -> new Endpoint<>(address, connect.apply(address)))
+            );
+        }
+        ring = new HashRing<>(List.copyOf(next), endpoint -> endpoint.address);
+        current
+            .stream()
+            .filter(endpoint -> !next.contains(endpoint))
+            .forEach(endpoint -> disconnect.accept(endpoint.client));
+        Monitor.endpointsChanged(name, addresses);
+    }
+
+    private static class Endpoint<T> {
+        private final String address;
+        private final T client;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile long ejectedUntil;
+        private int consecutiveFailures;
+        private int ejections;
+
+        Endpoint(String address, T client) {
+            this.address = address;
+            this.client = client;
+        }
+
+        boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+    }
+}
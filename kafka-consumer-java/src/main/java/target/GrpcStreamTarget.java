@@ -0,0 +1,156 @@
+package target;
+
+import configuration.Config;
+import configuration.TargetConfig;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public class GrpcStreamTarget extends GrpcTarget {
+    private final Map<ManagedChannel, Stream> streams = new ConcurrentHashMap<>();
+
+    public GrpcStreamTarget(
+        final TargetConfig targetConfig,
+        final TargetRetryPolicy retryPolicy,
+        final ConcurrencyLimiter concurrencyLimiter
+    ) {
+        super(targetConfig, retryPolicy, concurrencyLimiter);
+    }
+
+    public List<CompletableFuture<TargetResponse>> callBatch(final List<ConsumerRecord<String, byte[]>> records) {
+        return records.stream().map(record -> call(record)).collect(Collectors.toList());
+    }
+
+    protected CompletableFuture<TargetResponse> send(final ConsumerRecord<String, byte[]> record) {
+        final var callTargetPayload = toPayload(record);
+
+        return concurrencyLimiter.run(
+            () -> channels.run(
+                record.key(),
+                channel -> {
+                    final long startTime = (new Date()).getTime();
+                    return streams
+                        .computeIfAbsent(channel, Stream::new)
+                        .submit(callTargetPayload)
+                        .thenApplyAsync(response -> toTargetResponse(response, startTime), TargetExecutors.completion);
+                }
+            )
+        );
+    }
+
+    private class Stream {
+        private final ManagedChannel channel;
+        private final CallTargetGrpc.CallTargetStub stub;
+        private final Map<Long, CompletableFuture<Message.CallTargetResponse>> pending = new HashMap<>();
+        private final ArrayDeque<Message.CallTargetPayload> queued = new ArrayDeque<>();
+        private ClientCallStreamObserver<Message.CallTargetPayload> requests;
+        private long sequence;
+
+        Stream(ManagedChannel channel) {
+            this.channel = channel;
+            this.stub = CallTargetGrpc.newStub(channel);
+        }
+
+        CompletableFuture<Message.CallTargetResponse> submit(Message.CallTargetPayload.Builder payload) {
+            var response = new CompletableFuture<Message.CallTargetResponse>();
+            long id;
+            synchronized (this) {
+                id = ++sequence;
+                pending.put(id, response);
+                queued.add(payload.setSequence(id).build());
+                if (requests == null) {
+                    stub.callTargetStream(new ResponseObserver());
+                }
+                drain();
+            }
+            if (Config.TARGET_STREAM_ACK_TIMEOUT > 0) {
+                response
+                    .orTimeout(Config.TARGET_STREAM_ACK_TIMEOUT, TimeUnit.MILLISECONDS)
+                    .whenComplete(
+                        (__, error) -> {
+                            if (error != null) {
+                                forget(id, response);
+                            }
+                        }
+                    );
+            }
+            return response;
+        }
+
+        synchronized void drain() {
+            while (requests != null && requests.isReady() && !queued.isEmpty()) {
+                requests.onNext(queued.poll());
+            }
+        }
+
+        void acknowledge(Message.CallTargetResponse response) {
+            CompletableFuture<Message.CallTargetResponse> acknowledged;
+            synchronized (this) {
+                acknowledged = pending.remove(response.getSequence());
+            }
+            if (acknowledged != null) {
+                acknowledged.complete(response);
+            }
+        }
+
+        synchronized void forget(long id, CompletableFuture<Message.CallTargetResponse> response) {
+            pending.remove(id, response);
+        }
+
+        void fail(ClientCallStreamObserver<Message.CallTargetPayload> stream, Throwable error) {
+            var failed = new ArrayList<CompletableFuture<Message.CallTargetResponse>>();
+            synchronized (this) {
+                if (requests != stream) {
+                    return;
+                }
+                requests = null;
+                queued.clear();
+                failed.addAll(pending.values());
+                pending.clear();
+            }
+            if (channel.isShutdown()) {
+                streams.remove(channel, this);
+            }
+            failed.forEach(response -> response.completeExceptionally(error));
+        }
+
+        private class ResponseObserver
+            implements ClientResponseObserver<Message.CallTargetPayload, Message.CallTargetResponse> {
+            private ClientCallStreamObserver<Message.CallTargetPayload> requestStream;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Message.CallTargetPayload> requestStream) {
+                this.requestStream = requestStream;
+                requests = requestStream;
+                requestStream.setOnReadyHandler(() -> drain());
+            }
+
+            @Override
+            public void onNext(Message.CallTargetResponse response) {
+                acknowledge(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                fail(requestStream, error);
+            }
+
+            @Override
+            public void onCompleted() {
+                fail(requestStream, Status.UNAVAILABLE.withDescription("target closed the stream").asException());
+            }
+        }
+    }
+}
@@ -1,52 +1,238 @@
 package target;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.spotify.futures.ListenableFuturesExtra;
 import configuration.Config;
-import io.grpc.Channel;
+import configuration.TargetConfig;
+import io.grpc.CallOptions;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ClientCalls;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.OptionalLong;
-import net.jodah.failsafe.Failsafe;
-import net.jodah.failsafe.function.CheckedSupplier;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 
 public class GrpcTarget implements ITarget {
-    private Channel client;
+    private static final byte[] SERVING = new byte[] { 0x08, 0x01 };
+    private static final MethodDescriptor<byte[], byte[]> HEALTH_CHECK = MethodDescriptor
+        .<byte[], byte[]>newBuilder()
+        .setType(MethodDescriptor.MethodType.UNARY)
+        .setFullMethodName("grpc.health.v1.Health/Check")
+        .setRequestMarshaller(new BytesMarshaller())
+        .setResponseMarshaller(new BytesMarshaller())
+        .build();
+
+    protected final EndpointBalancer<ManagedChannel> channels;
+    protected final ConcurrencyLimiter concurrencyLimiter;
+    private final BlockingCalls blockingCalls = "blocking".equals(Config.EXECUTION_MODE)
+        ? new BlockingCalls("grpc-call", Config.BLOCKING_MAX_IN_FLIGHT)
+        : null;
     private TargetRetryPolicy retryPolicy;
 
-    public GrpcTarget(final TargetRetryPolicy retryPolicy) {
-        var target = Config.TARGET.split(":");
-        this.client = ManagedChannelBuilder.forAddress(target[0], Integer.parseInt(target[1])).usePlaintext().build();
+    public GrpcTarget(
+        final TargetConfig targetConfig,
+        final TargetRetryPolicy retryPolicy,
+        final ConcurrencyLimiter concurrencyLimiter
+    ) {
+        this.channels = new EndpointBalancer<>(targetConfig, GrpcTarget::createChannel, ManagedChannel::shutdown);
         this.retryPolicy = retryPolicy;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public CompletableFuture<TargetResponse> call(final ConsumerRecord<String, byte[]> record) {
+        return retryPolicy.execute(record, __ -> send(record));
+    }
+
+    public List<CompletableFuture<TargetResponse>> callBatch(final List<ConsumerRecord<String, byte[]>> records) {
+        final var callTargetBatchPayloadBuilder = Message.CallTargetBatchPayload.newBuilder();
+        for (var record : records) {
+            callTargetBatchPayloadBuilder.addPayloads(toPayload(record));
+        }
+
+        final var batch = concurrencyLimiter.runBatch(
+            () -> channels.runBatch(
+                records.get(0).key(),
+                channel -> {
+                    if (blockingCalls != null) {
+                        return blockingCalls.submit(
+                            () -> {
+                                final long startTime = (new Date()).getTime();
+                                var response = CallTargetGrpc
+                                    .newBlockingStub(channel)
+                                    .callTargetBatch(callTargetBatchPayloadBuilder.build());
+                                return toTargetResponses(response, startTime, records.size());
+                            }
+                        );
+                    }
+                    final long startTime = (new Date()).getTime();
+                    return ListenableFuturesExtra
+                        .toCompletableFuture(
+                            CallTargetGrpc.newFutureStub(channel).callTargetBatch(callTargetBatchPayloadBuilder.build())
+                        )
+                        .thenApplyAsync(
+                            response -> toTargetResponses(response, startTime, records.size()),
+                            TargetExecutors.completion
+                        );
+                }
+            )
+        );
+
+        return TargetBatch.deliver(records, batch, retryPolicy, this::send);
+    }
+
+    public CompletableFuture<Void> warmUp() {
+        var connections = new ArrayList<CompletableFuture<Void>>();
+        for (var channel : channels.clients()) {
+            var connected = new CompletableFuture<Void>();
+            whenConnected(channel, connected);
+            connections.add(connected);
+        }
+        return CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new));
+    }
+
+    public CompletableFuture<Boolean> checkHealth() {
+        var checks = channels.clients().stream().map(GrpcTarget::checkHealth).collect(Collectors.toList());
+        return CompletableFuture
+            .allOf(checks.toArray(CompletableFuture[]::new))
+            .thenApply(__ -> checks.stream().anyMatch(CompletableFuture::join));
+    }
+
+    private static CompletableFuture<Boolean> checkHealth(ManagedChannel channel) {
+        var call = channel.newCall(
+            HEALTH_CHECK,
+            CallOptions.DEFAULT.withDeadlineAfter(Config.CIRCUIT_BREAKER_PROBE_INTERVAL, TimeUnit.MILLISECONDS)
+        );
+        return ListenableFuturesExtra
+            .toCompletableFuture(ClientCalls.futureUnaryCall(call, new byte[0]))
+            .handle(
+                (response, exception) -> exception == null
+                    ? Arrays.equals(response, SERVING)
+                    : Status.fromThrowable(exception).getCode() == Status.Code.UNIMPLEMENTED
+            );
+    }
+
+    private static void whenConnected(ManagedChannel channel, CompletableFuture<Void> connected) {
+        var state = channel.getState(true);
+        if (state == ConnectivityState.READY || state == ConnectivityState.TRANSIENT_FAILURE) {
+            connected.complete(null);
+            return;
+        }
+        channel.notifyWhenStateChanged(state, () -> whenConnected(channel, connected));
+    }
+
+    private static ManagedChannel createChannel(String address) {
+        var builder = ManagedChannelBuilder.forTarget(address).executor(TargetExecutors.grpc).usePlaintext();
+        if (address.startsWith("dns:///")) {
+            builder.defaultLoadBalancingPolicy("round_robin");
+        }
+        return builder.build();
+    }
+
+    protected CompletableFuture<TargetResponse> send(final ConsumerRecord<String, byte[]> record) {
+        final var callTargetPayload = toPayload(record).build();
+
+        return concurrencyLimiter.run(
+            () -> channels.run(
+                record.key(),
+                channel -> {
+                    if (blockingCalls != null) {
+                        return blockingCalls.submit(
+                            () -> {
+                                final long startTime = (new Date()).getTime();
+                                var response = CallTargetGrpc.newBlockingStub(channel).callTarget(callTargetPayload);
+                                return toTargetResponse(response, startTime);
+                            }
+                        );
+                    }
+                    final long startTime = (new Date()).getTime();
+                    return ListenableFuturesExtra
+                        .toCompletableFuture(CallTargetGrpc.newFutureStub(channel).callTarget(callTargetPayload))
+                        .thenApplyAsync(response -> toTargetResponse(response, startTime), TargetExecutors.completion);
+                }
+            )
+        );
     }
 
-    public CompletableFuture<TargetResponse> call(final ConsumerRecord<String, String> record) {
-        final var json = record.value();
+    protected Message.CallTargetPayload.Builder toPayload(final ConsumerRecord<String, byte[]> record) {
         final var callTargetPayloadBuilder = Message.CallTargetPayload.newBuilder();
         callTargetPayloadBuilder.setRecordOffset(record.offset());
         callTargetPayloadBuilder.setRecordTimestamp(record.timestamp());
         callTargetPayloadBuilder.setTopic(this.getOriginalTopic(record));
-        callTargetPayloadBuilder.setMsgJson(json);
-        callTargetPayloadBuilder.setHeadersJson(this.getRecordHeaders(record));
-        final CallTargetGrpc.CallTargetFutureStub futureStub = CallTargetGrpc.newFutureStub(client);
-
-        final long startTime = (new Date()).getTime();
-        CheckedSupplier<CompletionStage<Message.CallTargetResponse>> completionStageCheckedSupplier =
-            () -> ListenableFuturesExtra.toCompletableFuture(futureStub.callTarget(callTargetPayloadBuilder.build()));
-
-        return Failsafe
-            .with(retryPolicy.<Message.CallTargetResponse>get(record, r -> r.getStatusCode()))
-            .getStageAsync(completionStageCheckedSupplier)
-            .thenApplyAsync(
-                response -> {
-                    var callLatency = response.getReceivedTimestamp() == 0L ? OptionalLong.empty()
-                        : OptionalLong.of(response.getReceivedTimestamp() - startTime);
-                    var resultLatency = response.getCompletedTimestamp() == 0L ? OptionalLong.empty()
-                        : OptionalLong.of((new Date()).getTime() - response.getCompletedTimestamp());
-                    return new TargetResponse(callLatency, resultLatency);
-                }
+        if (record.value() != null) {
+            if (Config.BINARY_PAYLOAD) {
+                callTargetPayloadBuilder.setMsgBytes(UnsafeByteOperations.unsafeWrap(record.value()));
+            } else {
+                callTargetPayloadBuilder.setMsgJson(new String(record.value(), StandardCharsets.UTF_8));
+            }
+        }
+        if (Config.HEADERS_FORMAT.equals("native")) {
+            for (Header header : record.headers()) {
+                callTargetPayloadBuilder.putHeaders(
+                    header.key(),
+                    header.value() == null ? ByteString.EMPTY : UnsafeByteOperations.unsafeWrap(header.value())
+                );
+            }
+        } else {
+            callTargetPayloadBuilder.setHeadersJson(this.getRecordHeaders(record));
+        }
+        callTargetPayloadBuilder.setRecordPartition(record.partition());
+        return callTargetPayloadBuilder;
+    }
+
+    private static List<TargetResponse> toTargetResponses(
+        Message.CallTargetBatchResponse response,
+        long startTime,
+        int size
+    ) {
+        if (response.getResponsesCount() != size) {
+            throw new IllegalStateException(
+                String.format("expected %1$s responses in batch, got %2$s", size, response.getResponsesCount())
             );
+        }
+        return response
+            .getResponsesList()
+            .stream()
+            .map(targetResponse -> toTargetResponse(targetResponse, startTime))
+            .collect(Collectors.toList());
+    }
+
+    protected static TargetResponse toTargetResponse(Message.CallTargetResponse response, long startTime) {
+        var callLatency = response.getReceivedTimestamp() == 0L ? OptionalLong.empty()
+            : OptionalLong.of(response.getReceivedTimestamp() - startTime);
+        var resultLatency = response.getCompletedTimestamp() == 0L ? OptionalLong.empty()
+            : OptionalLong.of((new Date()).getTime() - response.getCompletedTimestamp());
+        return new TargetResponse(response.getStatusCode(), callLatency, resultLatency);
+    }
+
+    private static class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw Status.INTERNAL.withCause(e).asRuntimeException();
+            }
+        }
     }
 }
@@ -0,0 +1,63 @@
+package target;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public class HashRing<T> {
+    private static final int VIRTUAL_NODES = 160;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final List<T> nodes;
+    private final long[] points;
+    private final List<T> owners;
+
+    public HashRing(List<T> nodes, Function<T, String> name) {
+        this.nodes = nodes;
+        var points = new long[nodes.size() * VIRTUAL_NODES];
+        var owners = new ArrayList<T>(points.length);
+        var entries = new long[points.length][];
+        for (var i = 0; i < nodes.size(); i++) {
+            for (var replica = 0; replica < VIRTUAL_NODES; replica++) {
+                var index = i * VIRTUAL_NODES + replica;
+                entries[index] = new long[] { hash(name.apply(nodes.get(i)) + "#" + replica), i };
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        for (var i = 0; i < entries.length; i++) {
+            points[i] = entries[i][0];
+            owners.add(nodes.get((int) entries[i][1]));
+        }
+        this.points = points;
+        this.owners = owners;
+    }
+
+    public List<T> nodes() {
+        return nodes;
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    public int locate(String key) {
+        var index = Arrays.binarySearch(points, hash(key));
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public T get(int index) {
+        return owners.get(index % owners.size());
+    }
+
+    private static long hash(String value) {
+        var hash = FNV_OFFSET_BASIS;
+        for (var i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,18 @@
+package target;
+
+import java.net.http.HttpClient;
+
+public class HttpClients {
+    private static final String ALLOW_RESTRICTED_HEADERS = "jdk.httpclient.allowRestrictedHeaders";
+
+    static {
+        var allowed = System.getProperty(ALLOW_RESTRICTED_HEADERS);
+        if (allowed == null || !allowed.toLowerCase().matches("(.*,)?\\s*host\\s*(,.*)?")) {
+            System.setProperty(ALLOW_RESTRICTED_HEADERS, allowed == null ? "host" : allowed + ",host");
+        }
+    }
+
+    public static HttpClient.Builder newBuilder() {
+        return HttpClient.newBuilder();
+    }
+}
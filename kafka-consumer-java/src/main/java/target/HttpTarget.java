@@ -1,30 +1,156 @@
 package target;
 
 import configuration.Config;
+import configuration.TargetConfig;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.OptionalLong;
-import net.jodah.failsafe.Failsafe;
-import net.jodah.failsafe.function.CheckedSupplier;
+import monitoring.Monitor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
 
 public class HttpTarget implements ITarget {
-    private final HttpClient client = HttpClient.newHttpClient();
+    private static final String HEADER_PREFIX = "x-record-header-";
+    private static final String HEADER_TOKEN_SYMBOLS = "!#$%&'*+-.^_`|~";
+    private static final int MAX_HEADER_NAMES = 1024;
+    private static final Map<String, String> headerNames = new ConcurrentHashMap<>();
+
+    private final HttpClient client = HttpClients.newBuilder().executor(TargetExecutors.http).build();
+    private final EndpointBalancer<URI> endpoints;
+    private final String host;
+    private final URI isAliveEndpoint;
+    private final BlockingCalls blockingCalls = "blocking".equals(Config.EXECUTION_MODE)
+        ? new BlockingCalls("http-call", Config.BLOCKING_MAX_IN_FLIGHT)
+        : null;
     private TargetRetryPolicy retryPolicy;
+    private ConcurrencyLimiter concurrencyLimiter;
 
-    public HttpTarget(final TargetRetryPolicy retryPolicy) {
+    public HttpTarget(
+        final TargetConfig targetConfig,
+        final TargetRetryPolicy retryPolicy,
+        final ConcurrencyLimiter concurrencyLimiter
+    ) {
+        this.endpoints =
+            new EndpointBalancer<>(
+                targetConfig,
+                address -> URI.create(targetConfig.sendingProtocol + "://" + address),
+                __ -> {}
+            );
+        this.host =
+            targetConfig.target.startsWith("dns:///") ? targetConfig.target.substring(7).replaceAll("/.*", "") : null;
+        this.isAliveEndpoint = targetConfig.isAliveEndpoint == null ? null : URI.create(targetConfig.isAliveEndpoint);
         this.retryPolicy = retryPolicy;
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
-    public CompletableFuture<TargetResponse> call(final ConsumerRecord<String, String> record) {
+    public CompletableFuture<TargetResponse> call(final ConsumerRecord<String, byte[]> record) {
+        return retryPolicy.execute(record, __ -> send(record));
+    }
+
+    public List<CompletableFuture<TargetResponse>> callBatch(final List<ConsumerRecord<String, byte[]>> records) {
+        final var body = new JSONArray();
+        for (var record : records) {
+            final var headers = this.getRecordHeaders(record);
+            body.put(
+                new JSONObject()
+                    .put("topic", record.topic())
+                    .put("key", record.key() == null ? JSONObject.NULL : record.key())
+                    .put("partition", record.partition())
+                    .put("offset", record.offset())
+                    .put("timestamp", record.timestamp())
+                    .put("originalTopic", this.getOriginalTopic(record))
+                    .put("headers", (JSONString) () -> headers)
+                    .put(
+                        "value",
+                        record.value() == null ? JSONObject.NULL : new String(record.value(), StandardCharsets.UTF_8)
+                    )
+            );
+        }
         final var request = HttpRequest
             .newBuilder()
-            .uri(URI.create(Config.SENDING_PROTOCOL + "://" + Config.TARGET))
+            .header("Content-Type", "application/json")
+            .header("x-record-batch-size", String.valueOf(records.size()))
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        if (host != null) {
+            request.header("Host", host);
+        }
+
+        final var batch = concurrencyLimiter.runBatch(
+            () -> endpoints.runBatch(
+                records.get(0).key(),
+                uri -> {
+                    final var httpRequest = request.uri(uri).build();
+                    if (blockingCalls != null) {
+                        return blockingCalls.submit(
+                            () -> {
+                                final long startTime = (new Date()).getTime();
+                                var response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                                return toTargetResponses(response, startTime, records.size());
+                            }
+                        );
+                    }
+                    final long startTime = (new Date()).getTime();
+                    return client
+                        .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                        .thenApplyAsync(
+                            response -> toTargetResponses(response, startTime, records.size()),
+                            TargetExecutors.completion
+                        );
+                }
+            )
+        );
+
+        return TargetBatch.deliver(records, batch, retryPolicy, this::send);
+    }
+
+    public CompletableFuture<Void> warmUp() {
+        var connections = new ArrayList<CompletableFuture<?>>();
+        for (var uri : endpoints.clients()) {
+            final var builder = HttpRequest
+                .newBuilder()
+                .uri(uri)
+                .method("OPTIONS", HttpRequest.BodyPublishers.noBody());
+            final var request = (host == null ? builder : builder.header("Host", host)).build();
+            for (var i = 0; i < Config.TARGET_WARM_UP_CONNECTIONS; i++) {
+                connections.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+        }
+        return CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new)).handle((__, ___) -> null);
+    }
+
+    public CompletableFuture<Boolean> checkHealth() {
+        if (isAliveEndpoint == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final var request = HttpRequest
+            .newBuilder()
+            .uri(isAliveEndpoint)
+            .timeout(Duration.ofMillis(Config.CIRCUIT_BREAKER_PROBE_INTERVAL))
+            .GET()
+            .build();
+        return client
+            .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, exception) -> exception == null && response.statusCode() == 200);
+    }
+
+    private CompletableFuture<TargetResponse> send(final ConsumerRecord<String, byte[]> record) {
+        final var request = withRecordHeaders(HttpRequest.newBuilder(), record)
             .header("Content-Type", "application/json")
             .header("x-record-topic", record.topic())
             .header("x-record-key", record.key())
@@ -32,32 +158,154 @@ public class HttpTarget implements ITarget {
             .header("x-record-offset", String.valueOf(record.offset()))
             .header("x-record-timestamp", String.valueOf(record.timestamp()))
             .header("x-record-original-topic", this.getOriginalTopic(record))
-            .header("x-record-headers", this.getRecordHeaders(record))
-            .POST(HttpRequest.BodyPublishers.ofString(record.value()))
-            .build();
+            .POST(
+                record.value() == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(record.value())
+            );
+        if (host != null) {
+            request.header("Host", host);
+        }
 
-        final long startTime = (new Date()).getTime();
-        final CheckedSupplier<CompletionStage<HttpResponse<String>>> completionStageCheckedSupplier =
-            () -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
-
-        return Failsafe
-            .with(retryPolicy.<HttpResponse<String>>get(record, r -> r.statusCode()))
-            .getStageAsync(completionStageCheckedSupplier)
-            .thenApplyAsync(
-                response -> {
-                    var callLatency = !response.headers().firstValueAsLong("x-received-timestamp").isPresent()
-                        ? OptionalLong.empty()
-                        : OptionalLong.of(
-                        response.headers().firstValueAsLong("x-received-timestamp").getAsLong() - startTime
-                    );
-                    var resultLatency = !response.headers().firstValueAsLong("x-completed-timestamp").isPresent()
-                        ? OptionalLong.empty()
-                        : OptionalLong.of(
-                        (new Date()).getTime() -
-                            response.headers().firstValueAsLong("x-completed-timestamp").getAsLong()
-                    );
-                    return new TargetResponse(callLatency, resultLatency);
+        return concurrencyLimiter.run(
+            () -> endpoints.run(
+                record.key(),
+                uri -> {
+                    final var httpRequest = request.uri(uri).build();
+                    if (blockingCalls != null) {
+                        return blockingCalls.submit(
+                            () -> {
+                                final long startTime = (new Date()).getTime();
+                                var response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                                return toTargetResponse(response, startTime);
+                            }
+                        );
+                    }
+                    final long startTime = (new Date()).getTime();
+                    return client
+                        .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                        .thenApplyAsync(response -> toTargetResponse(response, startTime), TargetExecutors.completion);
                 }
+            )
+        );
+    }
+
+    private HttpRequest.Builder withRecordHeaders(HttpRequest.Builder builder, ConsumerRecord<String, byte[]> record) {
+        if (!Config.HEADERS_FORMAT.equals("native")) {
+            return builder.header("x-record-headers", this.getRecordHeaders(record));
+        }
+        for (Header header : record.headers()) {
+            if (record.headers().lastHeader(header.key()) != header) {
+                continue;
+            }
+            var name = headerName(header.key());
+            var value = headerValue(header.value());
+            if (name == null || value == null) {
+                Monitor.recordHeaderSkipped();
+                continue;
+            }
+            builder.header(name, value);
+        }
+        return builder;
+    }
+
+    private static String headerName(String key) {
+        var name = headerNames.get(key);
+        if (name == null) {
+            name = isToken(key) ? HEADER_PREFIX + key : "";
+            if (headerNames.size() < MAX_HEADER_NAMES) {
+                headerNames.put(key, name);
+            }
+        }
+        return name.isEmpty() ? null : name;
+    }
+
+    private static boolean isToken(String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        for (var i = 0; i < key.length(); i++) {
+            var c = key.charAt(i);
+            if (
+                (c < 'a' || c > 'z') &&
+                (c < 'A' || c > 'Z') &&
+                (c < '0' || c > '9') &&
+                HEADER_TOKEN_SYMBOLS.indexOf(c) == -1
+            ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String headerValue(byte[] value) {
+        if (value == null) {
+            return "";
+        }
+        for (var b : value) {
+            if (b < 0) {
+                return latin1Value(new String(value, StandardCharsets.UTF_8));
+            }
+            if ((b < 0x20 && b != '\t') || b == 0x7F) {
+                return null;
+            }
+        }
+        return new String(value, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String latin1Value(String value) {
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if ((c < 0x20 && c != '\t') || c == 0x7F || c > 0xFF) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    private static List<TargetResponse> toTargetResponses(HttpResponse<String> response, long startTime, int size) {
+        var targetResponse = toTargetResponse(response, startTime);
+        return TargetBatch.toTargetResponses(
+            response.body(),
+            size,
+            targetResponse.statusCode,
+            targetResponse.callLatency,
+            targetResponse.resultLatency,
+            targetResponse.retryAfter
+        );
+    }
+
+    private static TargetResponse toTargetResponse(HttpResponse<String> response, long startTime) {
+        var callLatency = !response.headers().firstValueAsLong("x-received-timestamp").isPresent()
+            ? OptionalLong.empty()
+            : OptionalLong.of(response.headers().firstValueAsLong("x-received-timestamp").getAsLong() - startTime);
+        var resultLatency = !response.headers().firstValueAsLong("x-completed-timestamp").isPresent()
+            ? OptionalLong.empty()
+            : OptionalLong.of(
+                (new Date()).getTime() - response.headers().firstValueAsLong("x-completed-timestamp").getAsLong()
+            );
+        return new TargetResponse(response.statusCode(), callLatency, resultLatency, retryAfter(response));
+    }
+
+    private static OptionalLong retryAfter(HttpResponse<String> response) {
+        var retryAfter = response.headers().firstValue("Retry-After");
+        if ((response.statusCode() != 429 && response.statusCode() != 503) || !retryAfter.isPresent()) {
+            return OptionalLong.empty();
+        }
+        var value = retryAfter.get().trim();
+        if (value.matches("[0-9]+")) {
+            return OptionalLong.of(Long.parseLong(value) * 1000);
+        }
+        try {
+            return OptionalLong.of(
+                Math.max(
+                    0,
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() -
+                    (new Date()).getTime()
+                )
             );
+        } catch (DateTimeParseException e) {
+            return OptionalLong.empty();
+        }
     }
 }
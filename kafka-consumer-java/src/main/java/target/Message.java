@@ -63,6 +63,58 @@ public final class Message {
          * @return The bytes for headersJson.
          */
         com.google.protobuf.ByteString getHeadersJsonBytes();
+
+        /**
+         * <code>int32 recordPartition = 6;</code>
+         * @return The recordPartition.
+         */
+        int getRecordPartition();
+
+        /**
+         * <code>bytes msgBytes = 7;</code>
+         * @return The msgBytes.
+         */
+        com.google.protobuf.ByteString getMsgBytes();
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        int getHeadersCount();
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        boolean containsHeaders(java.lang.String key);
+
+        /**
+         * Use {@link #getHeadersMap()} instead.
+         */
+        @java.lang.Deprecated
+        java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeaders();
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeadersMap();
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        com.google.protobuf.ByteString getHeadersOrDefault(
+            java.lang.String key,
+            com.google.protobuf.ByteString defaultValue
+        );
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        com.google.protobuf.ByteString getHeadersOrThrow(java.lang.String key);
+
+        /**
+         * <code>int64 sequence = 9;</code>
+         * @return The sequence.
+         */
+        long getSequence();
     }
 
     /**
@@ -84,6 +136,7 @@ public final class Message {
             topic_ = "";
             msgJson_ = "";
             headersJson_ = "";
+            msgBytes_ = com.google.protobuf.ByteString.EMPTY;
         }
 
         @java.lang.Override
@@ -106,6 +159,7 @@ public final class Message {
             if (extensionRegistry == null) {
                 throw new java.lang.NullPointerException();
             }
+            int mutable_bitField0_ = 0;
             com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder();
             try {
                 boolean done = false;
@@ -146,6 +200,37 @@ public final class Message {
                                 headersJson_ = s;
                                 break;
                             }
+                        case 48:
+                            {
+                                recordPartition_ = input.readInt32();
+                                break;
+                            }
+                        case 58:
+                            {
+                                msgBytes_ = input.readBytes();
+                                break;
+                            }
+                        case 66:
+                            {
+                                if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                                    headers_ =
+                                        com.google.protobuf.MapField.newMapField(
+                                            HeadersDefaultEntryHolder.defaultEntry
+                                        );
+                                    mutable_bitField0_ |= 0x00000001;
+                                }
+                                com.google.protobuf.MapEntry<java.lang.String, com.google.protobuf.ByteString> headers__ = input.readMessage(
+                                    HeadersDefaultEntryHolder.defaultEntry.getParserForType(),
+                                    extensionRegistry
+                                );
+                                headers_.getMutableMap().put(headers__.getKey(), headers__.getValue());
+                                break;
+                            }
+                        case 72:
+                            {
+                                sequence_ = input.readInt64();
+                                break;
+                            }
                         default:
                             {
                                 if (!parseUnknownField(input, unknownFields, extensionRegistry, tag)) {
@@ -169,6 +254,17 @@ public final class Message {
             return Message.internal_static_CallTargetPayload_descriptor;
         }
 
+        @SuppressWarnings({"rawtypes"})
+        @java.lang.Override
+        protected com.google.protobuf.MapField internalGetMapField(int number) {
+            switch (number) {
+                case 8:
+                    return internalGetHeaders();
+                default:
+                    throw new RuntimeException("Invalid map field number: " + number);
+            }
+        }
+
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
             return Message.internal_static_CallTargetPayload_fieldAccessorTable.ensureFieldAccessorsInitialized(
@@ -301,6 +397,117 @@ public final class Message {
             }
         }
 
+        public static final int RECORDPARTITION_FIELD_NUMBER = 6;
+        private int recordPartition_;
+
+        /**
+         * <code>int32 recordPartition = 6;</code>
+         * @return The recordPartition.
+         */
+        public int getRecordPartition() {
+            return recordPartition_;
+        }
+
+        public static final int MSGBYTES_FIELD_NUMBER = 7;
+        private com.google.protobuf.ByteString msgBytes_;
+
+        /**
+         * <code>bytes msgBytes = 7;</code>
+         * @return The msgBytes.
+         */
+        public com.google.protobuf.ByteString getMsgBytes() {
+            return msgBytes_;
+        }
+
+        public static final int HEADERS_FIELD_NUMBER = 8;
+
+        private static final class HeadersDefaultEntryHolder {
+            static final com.google.protobuf.MapEntry<java.lang.String, com.google.protobuf.ByteString> defaultEntry = com.google.protobuf.MapEntry.<java.lang.String, com.google.protobuf.ByteString>newDefaultInstance(
+                Message.internal_static_CallTargetPayload_HeadersEntry_descriptor,
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.BYTES,
+                com.google.protobuf.ByteString.EMPTY
+            );
+        }
+
+        private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.ByteString> headers_;
+
+        private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.ByteString> internalGetHeaders() {
+            if (headers_ == null) {
+                return com.google.protobuf.MapField.emptyMapField(HeadersDefaultEntryHolder.defaultEntry);
+            }
+            return headers_;
+        }
+
+        public int getHeadersCount() {
+            return internalGetHeaders().getMap().size();
+        }
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        public boolean containsHeaders(java.lang.String key) {
+            if (key == null) {
+                throw new java.lang.NullPointerException();
+            }
+            return internalGetHeaders().getMap().containsKey(key);
+        }
+
+        /**
+         * Use {@link #getHeadersMap()} instead.
+         */
+        @java.lang.Deprecated
+        public java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeaders() {
+            return getHeadersMap();
+        }
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        public java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeadersMap() {
+            return internalGetHeaders().getMap();
+        }
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        public com.google.protobuf.ByteString getHeadersOrDefault(
+            java.lang.String key,
+            com.google.protobuf.ByteString defaultValue
+        ) {
+            if (key == null) {
+                throw new java.lang.NullPointerException();
+            }
+            java.util.Map<java.lang.String, com.google.protobuf.ByteString> map = internalGetHeaders().getMap();
+            return map.containsKey(key) ? map.get(key) : defaultValue;
+        }
+
+        /**
+         * <code>map&lt;string, bytes&gt; headers = 8;</code>
+         */
+        public com.google.protobuf.ByteString getHeadersOrThrow(java.lang.String key) {
+            if (key == null) {
+                throw new java.lang.NullPointerException();
+            }
+            java.util.Map<java.lang.String, com.google.protobuf.ByteString> map = internalGetHeaders().getMap();
+            if (!map.containsKey(key)) {
+                throw new java.lang.IllegalArgumentException();
+            }
+            return map.get(key);
+        }
+
+        public static final int SEQUENCE_FIELD_NUMBER = 9;
+        private long sequence_;
+
+        /**
+         * <code>int64 sequence = 9;</code>
+         * @return The sequence.
+         */
+        public long getSequence() {
+            return sequence_;
+        }
+
         private byte memoizedIsInitialized = -1;
 
         @java.lang.Override
@@ -330,6 +537,21 @@ public final class Message {
             if (!getHeadersJsonBytes().isEmpty()) {
                 com.google.protobuf.GeneratedMessageV3.writeString(output, 5, headersJson_);
             }
+            if (recordPartition_ != 0) {
+                output.writeInt32(6, recordPartition_);
+            }
+            if (!msgBytes_.isEmpty()) {
+                output.writeBytes(7, msgBytes_);
+            }
+            com.google.protobuf.GeneratedMessageV3.serializeStringMapTo(
+                output,
+                internalGetHeaders(),
+                HeadersDefaultEntryHolder.defaultEntry,
+                8
+            );
+            if (sequence_ != 0L) {
+                output.writeInt64(9, sequence_);
+            }
             unknownFields.writeTo(output);
         }
 
@@ -354,6 +576,19 @@ public final class Message {
             if (!getHeadersJsonBytes().isEmpty()) {
                 size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, headersJson_);
             }
+            if (recordPartition_ != 0) {
+                size += com.google.protobuf.CodedOutputStream.computeInt32Size(6, recordPartition_);
+            }
+            if (!msgBytes_.isEmpty()) {
+                size += com.google.protobuf.CodedOutputStream.computeBytesSize(7, msgBytes_);
+            }
+            for (java.util.Map.Entry<java.lang.String, com.google.protobuf.ByteString> entry : internalGetHeaders().getMap().entrySet()) {
+                com.google.protobuf.MapEntry<java.lang.String, com.google.protobuf.ByteString> headers__ = HeadersDefaultEntryHolder.defaultEntry.newBuilderForType().setKey(entry.getKey()).setValue(entry.getValue()).build();
+                size += com.google.protobuf.CodedOutputStream.computeMessageSize(8, headers__);
+            }
+            if (sequence_ != 0L) {
+                size += com.google.protobuf.CodedOutputStream.computeInt64Size(9, sequence_);
+            }
             size += unknownFields.getSerializedSize();
             memoizedSize = size;
             return size;
@@ -374,6 +609,10 @@ public final class Message {
             if (!getTopic().equals(other.getTopic())) return false;
             if (!getMsgJson().equals(other.getMsgJson())) return false;
             if (!getHeadersJson().equals(other.getHeadersJson())) return false;
+            if (getRecordPartition() != other.getRecordPartition()) return false;
+            if (!getMsgBytes().equals(other.getMsgBytes())) return false;
+            if (!internalGetHeaders().equals(other.internalGetHeaders())) return false;
+            if (getSequence() != other.getSequence()) return false;
             if (!unknownFields.equals(other.unknownFields)) return false;
             return true;
         }
@@ -395,6 +634,16 @@ public final class Message {
             hash = (53 * hash) + getMsgJson().hashCode();
             hash = (37 * hash) + HEADERSJSON_FIELD_NUMBER;
             hash = (53 * hash) + getHeadersJson().hashCode();
+            hash = (37 * hash) + RECORDPARTITION_FIELD_NUMBER;
+            hash = (53 * hash) + getRecordPartition();
+            hash = (37 * hash) + MSGBYTES_FIELD_NUMBER;
+            hash = (53 * hash) + getMsgBytes().hashCode();
+            if (!internalGetHeaders().getMap().isEmpty()) {
+                hash = (37 * hash) + HEADERS_FIELD_NUMBER;
+                hash = (53 * hash) + internalGetHeaders().hashCode();
+            }
+            hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+            hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getSequence());
             hash = (29 * hash) + unknownFields.hashCode();
             memoizedHashCode = hash;
             return hash;
@@ -518,6 +767,26 @@ public final class Message {
                 return Message.internal_static_CallTargetPayload_descriptor;
             }
 
+            @SuppressWarnings({"rawtypes"})
+            protected com.google.protobuf.MapField internalGetMapField(int number) {
+                switch (number) {
+                    case 8:
+                        return internalGetHeaders();
+                    default:
+                        throw new RuntimeException("Invalid map field number: " + number);
+                }
+            }
+
+            @SuppressWarnings({"rawtypes"})
+            protected com.google.protobuf.MapField internalGetMutableMapField(int number) {
+                switch (number) {
+                    case 8:
+                        return internalGetMutableHeaders();
+                    default:
+                        throw new RuntimeException("Invalid map field number: " + number);
+                }
+            }
+
             @java.lang.Override
             protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
                 return Message.internal_static_CallTargetPayload_fieldAccessorTable.ensureFieldAccessorsInitialized(
@@ -553,6 +822,13 @@ public final class Message {
 
                 headersJson_ = "";
 
+                recordPartition_ = 0;
+
+                msgBytes_ = com.google.protobuf.ByteString.EMPTY;
+
+                sequence_ = 0L;
+
+                internalGetMutableHeaders().clear();
                 return this;
             }
 
@@ -578,11 +854,17 @@ public final class Message {
             @java.lang.Override
             public Message.CallTargetPayload buildPartial() {
                 Message.CallTargetPayload result = new Message.CallTargetPayload(this);
+                int from_bitField0_ = bitField0_;
                 result.recordOffset_ = recordOffset_;
                 result.recordTimestamp_ = recordTimestamp_;
                 result.topic_ = topic_;
                 result.msgJson_ = msgJson_;
                 result.headersJson_ = headersJson_;
+                result.recordPartition_ = recordPartition_;
+                result.msgBytes_ = msgBytes_;
+                result.sequence_ = sequence_;
+                result.headers_ = internalGetHeaders();
+                result.headers_.makeImmutable();
                 onBuilt();
                 return result;
             }
@@ -654,6 +936,16 @@ public final class Message {
                     headersJson_ = other.headersJson_;
                     onChanged();
                 }
+                if (other.getRecordPartition() != 0) {
+                    setRecordPartition(other.getRecordPartition());
+                }
+                if (other.getMsgBytes() != com.google.protobuf.ByteString.EMPTY) {
+                    setMsgBytes(other.getMsgBytes());
+                }
+                if (other.getSequence() != 0L) {
+                    setSequence(other.getSequence());
+                }
+                internalGetMutableHeaders().mergeFrom(other.internalGetHeaders());
                 this.mergeUnknownFields(other.unknownFields);
                 onChanged();
                 return this;
@@ -684,6 +976,8 @@ public final class Message {
                 return this;
             }
 
+            private int bitField0_;
+
             private long recordOffset_;
 
             /**
@@ -974,6 +1268,226 @@ public final class Message {
                 return this;
             }
 
+            private int recordPartition_;
+
+            /**
+             * <code>int32 recordPartition = 6;</code>
+             * @return The recordPartition.
+             */
+            public int getRecordPartition() {
+                return recordPartition_;
+            }
+
+            /**
+             * <code>int32 recordPartition = 6;</code>
+             * @param value The recordPartition to set.
+             * @return This builder for chaining.
+             */
+            public Builder setRecordPartition(int value) {
+                recordPartition_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>int32 recordPartition = 6;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearRecordPartition() {
+                recordPartition_ = 0;
+                onChanged();
+                return this;
+            }
+
+            private com.google.protobuf.ByteString msgBytes_ = com.google.protobuf.ByteString.EMPTY;
+
+            /**
+             * <code>bytes msgBytes = 7;</code>
+             * @return The msgBytes.
+             */
+            public com.google.protobuf.ByteString getMsgBytes() {
+                return msgBytes_;
+            }
+
+            /**
+             * <code>bytes msgBytes = 7;</code>
+             * @param value The msgBytes to set.
+             * @return This builder for chaining.
+             */
+            public Builder setMsgBytes(com.google.protobuf.ByteString value) {
+                if (value == null) {
+                    throw new NullPointerException();
+                }
+
+                msgBytes_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>bytes msgBytes = 7;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearMsgBytes() {
+                msgBytes_ = getDefaultInstance().getMsgBytes();
+                onChanged();
+                return this;
+            }
+
+            private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.ByteString> headers_;
+
+            private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.ByteString> internalGetHeaders() {
+                if (headers_ == null) {
+                    return com.google.protobuf.MapField.emptyMapField(HeadersDefaultEntryHolder.defaultEntry);
+                }
+                return headers_;
+            }
+
+            private com.google.protobuf.MapField<java.lang.String, com.google.protobuf.ByteString> internalGetMutableHeaders() {
+                onChanged();;
+                if (headers_ == null) {
+                    headers_ = com.google.protobuf.MapField.newMapField(HeadersDefaultEntryHolder.defaultEntry);
+                }
+                if (!headers_.isMutable()) {
+                    headers_ = headers_.copy();
+                }
+                return headers_;
+            }
+
+            public int getHeadersCount() {
+                return internalGetHeaders().getMap().size();
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public boolean containsHeaders(java.lang.String key) {
+                if (key == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                return internalGetHeaders().getMap().containsKey(key);
+            }
+
+            /**
+             * Use {@link #getHeadersMap()} instead.
+             */
+            @java.lang.Deprecated
+            public java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeaders() {
+                return getHeadersMap();
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public java.util.Map<java.lang.String, com.google.protobuf.ByteString> getHeadersMap() {
+                return internalGetHeaders().getMap();
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public com.google.protobuf.ByteString getHeadersOrDefault(
+                java.lang.String key,
+                com.google.protobuf.ByteString defaultValue
+            ) {
+                if (key == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                java.util.Map<java.lang.String, com.google.protobuf.ByteString> map = internalGetHeaders().getMap();
+                return map.containsKey(key) ? map.get(key) : defaultValue;
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public com.google.protobuf.ByteString getHeadersOrThrow(java.lang.String key) {
+                if (key == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                java.util.Map<java.lang.String, com.google.protobuf.ByteString> map = internalGetHeaders().getMap();
+                if (!map.containsKey(key)) {
+                    throw new java.lang.IllegalArgumentException();
+                }
+                return map.get(key);
+            }
+
+            public Builder clearHeaders() {
+                internalGetMutableHeaders().getMutableMap().clear();
+                return this;
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public Builder removeHeaders(java.lang.String key) {
+                if (key == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                internalGetMutableHeaders().getMutableMap().remove(key);
+                return this;
+            }
+
+            /**
+             * Use alternate mutation accessors instead.
+             */
+            @java.lang.Deprecated
+            public java.util.Map<java.lang.String, com.google.protobuf.ByteString> getMutableHeaders() {
+                return internalGetMutableHeaders().getMutableMap();
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public Builder putHeaders(java.lang.String key, com.google.protobuf.ByteString value) {
+                if (key == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                if (value == null) {
+                    throw new java.lang.NullPointerException();
+                }
+                internalGetMutableHeaders().getMutableMap().put(key, value);
+                return this;
+            }
+
+            /**
+             * <code>map&lt;string, bytes&gt; headers = 8;</code>
+             */
+            public Builder putAllHeaders(java.util.Map<java.lang.String, com.google.protobuf.ByteString> values) {
+                internalGetMutableHeaders().getMutableMap().putAll(values);
+                return this;
+            }
+
+            private long sequence_;
+
+            /**
+             * <code>int64 sequence = 9;</code>
+             * @return The sequence.
+             */
+            public long getSequence() {
+                return sequence_;
+            }
+
+            /**
+             * <code>int64 sequence = 9;</code>
+             * @param value The sequence to set.
+             * @return This builder for chaining.
+             */
+            public Builder setSequence(long value) {
+                sequence_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>int64 sequence = 9;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearSequence() {
+                sequence_ = 0L;
+                onChanged();
+                return this;
+            }
+
             @java.lang.Override
             public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
                 return super.setUnknownFields(unknownFields);
@@ -1045,24 +1559,56 @@ public final class Message {
          * @return The completedTimestamp.
          */
         long getCompletedTimestamp();
-    }
 
-    /**
-     * Protobuf type {@code CallTargetResponse}
-     */
-    public static final class CallTargetResponse
-        extends com.google.protobuf.GeneratedMessageV3
-        implements
-            // @@protoc_insertion_point(message_implements:CallTargetResponse)
-            CallTargetResponseOrBuilder {
-        private static final long serialVersionUID = 0L;
+        /**
+         * <code>int64 recordOffset = 4;</code>
+         * @return The recordOffset.
+         */
+        long getRecordOffset();
 
-        // Use CallTargetResponse.newBuilder() to construct.
-        private CallTargetResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        /**
+         * <code>int32 recordPartition = 5;</code>
+         * @return The recordPartition.
+         */
+        int getRecordPartition();
+
+        /**
+         * <code>string topic = 6;</code>
+         * @return The topic.
+         */
+        java.lang.String getTopic();
+
+        /**
+         * <code>string topic = 6;</code>
+         * @return The bytes for topic.
+         */
+        com.google.protobuf.ByteString getTopicBytes();
+
+        /**
+         * <code>int64 sequence = 7;</code>
+         * @return The sequence.
+         */
+        long getSequence();
+    }
+
+    /**
+     * Protobuf type {@code CallTargetResponse}
+     */
+    public static final class CallTargetResponse
+        extends com.google.protobuf.GeneratedMessageV3
+        implements
+            // @@protoc_insertion_point(message_implements:CallTargetResponse)
+            CallTargetResponseOrBuilder {
+        private static final long serialVersionUID = 0L;
+
+        // Use CallTargetResponse.newBuilder() to construct.
+        private CallTargetResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
             super(builder);
         }
 
-        private CallTargetResponse() {}
+        private CallTargetResponse() {
+            topic_ = "";
+        }
 
         @java.lang.Override
         @SuppressWarnings({ "unused" })
@@ -1108,6 +1654,28 @@ public final class Message {
                                 completedTimestamp_ = input.readInt64();
                                 break;
                             }
+                        case 32:
+                            {
+                                recordOffset_ = input.readInt64();
+                                break;
+                            }
+                        case 40:
+                            {
+                                recordPartition_ = input.readInt32();
+                                break;
+                            }
+                        case 50:
+                            {
+                                java.lang.String s = input.readStringRequireUtf8();
+
+                                topic_ = s;
+                                break;
+                            }
+                        case 56:
+                            {
+                                sequence_ = input.readInt64();
+                                break;
+                            }
                         default:
                             {
                                 if (!parseUnknownField(input, unknownFields, extensionRegistry, tag)) {
@@ -1172,6 +1740,73 @@ public final class Message {
             return completedTimestamp_;
         }
 
+        public static final int RECORDOFFSET_FIELD_NUMBER = 4;
+        private long recordOffset_;
+
+        /**
+         * <code>int64 recordOffset = 4;</code>
+         * @return The recordOffset.
+         */
+        public long getRecordOffset() {
+            return recordOffset_;
+        }
+
+        public static final int RECORDPARTITION_FIELD_NUMBER = 5;
+        private int recordPartition_;
+
+        /**
+         * <code>int32 recordPartition = 5;</code>
+         * @return The recordPartition.
+         */
+        public int getRecordPartition() {
+            return recordPartition_;
+        }
+
+        public static final int TOPIC_FIELD_NUMBER = 6;
+        private volatile java.lang.Object topic_;
+
+        /**
+         * <code>string topic = 6;</code>
+         * @return The topic.
+         */
+        public java.lang.String getTopic() {
+            java.lang.Object ref = topic_;
+            if (ref instanceof java.lang.String) {
+                return (java.lang.String) ref;
+            } else {
+                com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+                java.lang.String s = bs.toStringUtf8();
+                topic_ = s;
+                return s;
+            }
+        }
+
+        /**
+         * <code>string topic = 6;</code>
+         * @return The bytes for topic.
+         */
+        public com.google.protobuf.ByteString getTopicBytes() {
+            java.lang.Object ref = topic_;
+            if (ref instanceof java.lang.String) {
+                com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+                topic_ = b;
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        public static final int SEQUENCE_FIELD_NUMBER = 7;
+        private long sequence_;
+
+        /**
+         * <code>int64 sequence = 7;</code>
+         * @return The sequence.
+         */
+        public long getSequence() {
+            return sequence_;
+        }
+
         private byte memoizedIsInitialized = -1;
 
         @java.lang.Override
@@ -1195,6 +1830,18 @@ public final class Message {
             if (completedTimestamp_ != 0L) {
                 output.writeInt64(3, completedTimestamp_);
             }
+            if (recordOffset_ != 0L) {
+                output.writeInt64(4, recordOffset_);
+            }
+            if (recordPartition_ != 0) {
+                output.writeInt32(5, recordPartition_);
+            }
+            if (!getTopicBytes().isEmpty()) {
+                com.google.protobuf.GeneratedMessageV3.writeString(output, 6, topic_);
+            }
+            if (sequence_ != 0L) {
+                output.writeInt64(7, sequence_);
+            }
             unknownFields.writeTo(output);
         }
 
@@ -1213,6 +1860,18 @@ public final class Message {
             if (completedTimestamp_ != 0L) {
                 size += com.google.protobuf.CodedOutputStream.computeInt64Size(3, completedTimestamp_);
             }
+            if (recordOffset_ != 0L) {
+                size += com.google.protobuf.CodedOutputStream.computeInt64Size(4, recordOffset_);
+            }
+            if (recordPartition_ != 0) {
+                size += com.google.protobuf.CodedOutputStream.computeInt32Size(5, recordPartition_);
+            }
+            if (!getTopicBytes().isEmpty()) {
+                size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, topic_);
+            }
+            if (sequence_ != 0L) {
+                size += com.google.protobuf.CodedOutputStream.computeInt64Size(7, sequence_);
+            }
             size += unknownFields.getSerializedSize();
             memoizedSize = size;
             return size;
@@ -1231,6 +1890,10 @@ public final class Message {
             if (getStatusCode() != other.getStatusCode()) return false;
             if (getReceivedTimestamp() != other.getReceivedTimestamp()) return false;
             if (getCompletedTimestamp() != other.getCompletedTimestamp()) return false;
+            if (getRecordOffset() != other.getRecordOffset()) return false;
+            if (getRecordPartition() != other.getRecordPartition()) return false;
+            if (!getTopic().equals(other.getTopic())) return false;
+            if (getSequence() != other.getSequence()) return false;
             if (!unknownFields.equals(other.unknownFields)) return false;
             return true;
         }
@@ -1248,6 +1911,14 @@ public final class Message {
             hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getReceivedTimestamp());
             hash = (37 * hash) + COMPLETEDTIMESTAMP_FIELD_NUMBER;
             hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getCompletedTimestamp());
+            hash = (37 * hash) + RECORDOFFSET_FIELD_NUMBER;
+            hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getRecordOffset());
+            hash = (37 * hash) + RECORDPARTITION_FIELD_NUMBER;
+            hash = (53 * hash) + getRecordPartition();
+            hash = (37 * hash) + TOPIC_FIELD_NUMBER;
+            hash = (53 * hash) + getTopic().hashCode();
+            hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+            hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getSequence());
             hash = (29 * hash) + unknownFields.hashCode();
             memoizedHashCode = hash;
             return hash;
@@ -1402,6 +2073,14 @@ public final class Message {
 
                 completedTimestamp_ = 0L;
 
+                recordOffset_ = 0L;
+
+                recordPartition_ = 0;
+
+                sequence_ = 0L;
+
+                topic_ = "";
+
                 return this;
             }
 
@@ -1430,6 +2109,10 @@ public final class Message {
                 result.statusCode_ = statusCode_;
                 result.receivedTimestamp_ = receivedTimestamp_;
                 result.completedTimestamp_ = completedTimestamp_;
+                result.recordOffset_ = recordOffset_;
+                result.recordPartition_ = recordPartition_;
+                result.topic_ = topic_;
+                result.sequence_ = sequence_;
                 onBuilt();
                 return result;
             }
@@ -1492,6 +2175,19 @@ public final class Message {
                 if (other.getCompletedTimestamp() != 0L) {
                     setCompletedTimestamp(other.getCompletedTimestamp());
                 }
+                if (other.getRecordOffset() != 0L) {
+                    setRecordOffset(other.getRecordOffset());
+                }
+                if (other.getRecordPartition() != 0) {
+                    setRecordPartition(other.getRecordPartition());
+                }
+                if (!other.getTopic().isEmpty()) {
+                    topic_ = other.topic_;
+                    onChanged();
+                }
+                if (other.getSequence() != 0L) {
+                    setSequence(other.getSequence());
+                }
                 this.mergeUnknownFields(other.unknownFields);
                 onChanged();
                 return this;
@@ -1615,77 +2311,1897 @@ public final class Message {
                 return this;
             }
 
-            @java.lang.Override
-            public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
-                return super.setUnknownFields(unknownFields);
+            private long recordOffset_;
+
+            /**
+             * <code>int64 recordOffset = 4;</code>
+             * @return The recordOffset.
+             */
+            public long getRecordOffset() {
+                return recordOffset_;
             }
 
-            @java.lang.Override
-            public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
-                return super.mergeUnknownFields(unknownFields);
+            /**
+             * <code>int64 recordOffset = 4;</code>
+             * @param value The recordOffset to set.
+             * @return This builder for chaining.
+             */
+            public Builder setRecordOffset(long value) {
+                recordOffset_ = value;
+                onChanged();
+                return this;
             }
-        // @@protoc_insertion_point(builder_scope:CallTargetResponse)
-        }
 
-        // @@protoc_insertion_point(class_scope:CallTargetResponse)
-        private static final Message.CallTargetResponse DEFAULT_INSTANCE;
+            /**
+             * <code>int64 recordOffset = 4;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearRecordOffset() {
+                recordOffset_ = 0L;
+                onChanged();
+                return this;
+            }
 
-        static {
-            DEFAULT_INSTANCE = new Message.CallTargetResponse();
-        }
+            private int recordPartition_;
 
-        public static Message.CallTargetResponse getDefaultInstance() {
-            return DEFAULT_INSTANCE;
-        }
+            /**
+             * <code>int32 recordPartition = 5;</code>
+             * @return The recordPartition.
+             */
+            public int getRecordPartition() {
+                return recordPartition_;
+            }
 
-        private static final com.google.protobuf.Parser<CallTargetResponse> PARSER = new com.google.protobuf.AbstractParser<CallTargetResponse>() {
+            /**
+             * <code>int32 recordPartition = 5;</code>
+             * @param value The recordPartition to set.
+             * @return This builder for chaining.
+             */
+            public Builder setRecordPartition(int value) {
+                recordPartition_ = value;
+                onChanged();
+                return this;
+            }
 
-            @java.lang.Override
-            public CallTargetResponse parsePartialFrom(
-                com.google.protobuf.CodedInputStream input,
-                com.google.protobuf.ExtensionRegistryLite extensionRegistry
-            )
-                throws com.google.protobuf.InvalidProtocolBufferException {
-                return new CallTargetResponse(input, extensionRegistry);
+            /**
+             * <code>int32 recordPartition = 5;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearRecordPartition() {
+                recordPartition_ = 0;
+                onChanged();
+                return this;
             }
-        };
 
-        public static com.google.protobuf.Parser<CallTargetResponse> parser() {
-            return PARSER;
-        }
+            private java.lang.Object topic_ = "";
 
-        @java.lang.Override
-        public com.google.protobuf.Parser<CallTargetResponse> getParserForType() {
-            return PARSER;
-        }
+            /**
+             * <code>string topic = 6;</code>
+             * @return The topic.
+             */
+            public java.lang.String getTopic() {
+                java.lang.Object ref = topic_;
+                if (!(ref instanceof java.lang.String)) {
+                    com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+                    java.lang.String s = bs.toStringUtf8();
+                    topic_ = s;
+                    return s;
+                } else {
+                    return (java.lang.String) ref;
+                }
+            }
 
-        @java.lang.Override
-        public Message.CallTargetResponse getDefaultInstanceForType() {
-            return DEFAULT_INSTANCE;
-        }
-    }
+            /**
+             * <code>string topic = 6;</code>
+             * @return The bytes for topic.
+             */
+            public com.google.protobuf.ByteString getTopicBytes() {
+                java.lang.Object ref = topic_;
+                if (ref instanceof String) {
+                    com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8(
+                        (java.lang.String) ref
+                    );
+                    topic_ = b;
+                    return b;
+                } else {
+                    return (com.google.protobuf.ByteString) ref;
+                }
+            }
 
-    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetPayload_descriptor;
-    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetPayload_fieldAccessorTable;
-    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetResponse_descriptor;
-    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetResponse_fieldAccessorTable;
+            /**
+             * <code>string topic = 6;</code>
+             * @param value The topic to set.
+             * @return This builder for chaining.
+             */
+            public Builder setTopic(java.lang.String value) {
+                if (value == null) {
+                    throw new NullPointerException();
+                }
 
-    public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {
-        return descriptor;
-    }
+                topic_ = value;
+                onChanged();
+                return this;
+            }
 
-    private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
+            /**
+             * <code>string topic = 6;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearTopic() {
+                topic_ = getDefaultInstance().getTopic();
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>string topic = 6;</code>
+             * @param value The bytes for topic to set.
+             * @return This builder for chaining.
+             */
+            public Builder setTopicBytes(com.google.protobuf.ByteString value) {
+                if (value == null) {
+                    throw new NullPointerException();
+                }
+                checkByteStringIsUtf8(value);
+
+                topic_ = value;
+                onChanged();
+                return this;
+            }
+
+            private long sequence_;
+
+            /**
+             * <code>int64 sequence = 7;</code>
+             * @return The sequence.
+             */
+            public long getSequence() {
+                return sequence_;
+            }
+
+            /**
+             * <code>int64 sequence = 7;</code>
+             * @param value The sequence to set.
+             * @return This builder for chaining.
+             */
+            public Builder setSequence(long value) {
+                sequence_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>int64 sequence = 7;</code>
+             * @return This builder for chaining.
+             */
+            public Builder clearSequence() {
+                sequence_ = 0L;
+                onChanged();
+                return this;
+            }
+
+            @java.lang.Override
+            public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.setUnknownFields(unknownFields);
+            }
+
+            @java.lang.Override
+            public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.mergeUnknownFields(unknownFields);
+            }
+        // @@protoc_insertion_point(builder_scope:CallTargetResponse)
+        }
+
+        // @@protoc_insertion_point(class_scope:CallTargetResponse)
+        private static final Message.CallTargetResponse DEFAULT_INSTANCE;
+
+        static {
+            DEFAULT_INSTANCE = new Message.CallTargetResponse();
+        }
+
+        public static Message.CallTargetResponse getDefaultInstance() {
+            return DEFAULT_INSTANCE;
+        }
+
+        private static final com.google.protobuf.Parser<CallTargetResponse> PARSER = new com.google.protobuf.AbstractParser<CallTargetResponse>() {
+
+            @java.lang.Override
+            public CallTargetResponse parsePartialFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry
+            )
+                throws com.google.protobuf.InvalidProtocolBufferException {
+                return new CallTargetResponse(input, extensionRegistry);
+            }
+        };
+
+        public static com.google.protobuf.Parser<CallTargetResponse> parser() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<CallTargetResponse> getParserForType() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public Message.CallTargetResponse getDefaultInstanceForType() {
+            return DEFAULT_INSTANCE;
+        }
+    }
+
+    public interface CallTargetBatchPayloadOrBuilder
+        extends
+            // @@protoc_insertion_point(interface_extends:CallTargetBatchPayload)
+            com.google.protobuf.MessageOrBuilder {
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        java.util.List<Message.CallTargetPayload> getPayloadsList();
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        Message.CallTargetPayload getPayloads(int index);
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        int getPayloadsCount();
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        java.util.List<? extends Message.CallTargetPayloadOrBuilder> getPayloadsOrBuilderList();
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        Message.CallTargetPayloadOrBuilder getPayloadsOrBuilder(int index);
+    }
+
+    /**
+     * Protobuf type {@code CallTargetBatchPayload}
+     */
+    public static final class CallTargetBatchPayload
+        extends com.google.protobuf.GeneratedMessageV3
+        implements
+            // @@protoc_insertion_point(message_implements:CallTargetBatchPayload)
+            CallTargetBatchPayloadOrBuilder {
+        private static final long serialVersionUID = 0L;
+
+        // Use CallTargetBatchPayload.newBuilder() to construct.
+        private CallTargetBatchPayload(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+            super(builder);
+        }
+
+        private CallTargetBatchPayload() {
+            payloads_ = java.util.Collections.emptyList();
+        }
+
+        @java.lang.Override
+        @SuppressWarnings({ "unused" })
+        protected java.lang.Object newInstance(UnusedPrivateParameter unused) {
+            return new CallTargetBatchPayload();
+        }
+
+        @java.lang.Override
+        public final com.google.protobuf.UnknownFieldSet getUnknownFields() {
+            return this.unknownFields;
+        }
+
+        private CallTargetBatchPayload(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            this();
+            if (extensionRegistry == null) {
+                throw new java.lang.NullPointerException();
+            }
+            int mutable_bitField0_ = 0;
+            com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder();
+            try {
+                boolean done = false;
+                while (!done) {
+                    int tag = input.readTag();
+                    switch (tag) {
+                        case 0:
+                            done = true;
+                            break;
+                        case 10:
+                            {
+                                if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                                    payloads_ = new java.util.ArrayList<Message.CallTargetPayload>();
+                                    mutable_bitField0_ |= 0x00000001;
+                                }
+                                payloads_.add(input.readMessage(Message.CallTargetPayload.parser(), extensionRegistry));
+                                break;
+                            }
+                        default:
+                            {
+                                if (!parseUnknownField(input, unknownFields, extensionRegistry, tag)) {
+                                    done = true;
+                                }
+                                break;
+                            }
+                    }
+                }
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                throw e.setUnfinishedMessage(this);
+            } catch (java.io.IOException e) {
+                throw new com.google.protobuf.InvalidProtocolBufferException(e).setUnfinishedMessage(this);
+            } finally {
+                if (((mutable_bitField0_ & 0x00000001) != 0)) {
+                    payloads_ = java.util.Collections.unmodifiableList(payloads_);
+                }
+                this.unknownFields = unknownFields.build();
+                makeExtensionsImmutable();
+            }
+        }
+
+        public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
+            return Message.internal_static_CallTargetBatchPayload_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
+            return Message.internal_static_CallTargetBatchPayload_fieldAccessorTable.ensureFieldAccessorsInitialized(
+                Message.CallTargetBatchPayload.class,
+                Message.CallTargetBatchPayload.Builder.class
+            );
+        }
+
+        public static final int PAYLOADS_FIELD_NUMBER = 1;
+        private java.util.List<Message.CallTargetPayload> payloads_;
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        public java.util.List<Message.CallTargetPayload> getPayloadsList() {
+            return payloads_;
+        }
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        public java.util.List<? extends Message.CallTargetPayloadOrBuilder> getPayloadsOrBuilderList() {
+            return payloads_;
+        }
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        public int getPayloadsCount() {
+            return payloads_.size();
+        }
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        public Message.CallTargetPayload getPayloads(int index) {
+            return payloads_.get(index);
+        }
+
+        /**
+         * <code>repeated .CallTargetPayload payloads = 1;</code>
+         */
+        public Message.CallTargetPayloadOrBuilder getPayloadsOrBuilder(int index) {
+            return payloads_.get(index);
+        }
+
+        private byte memoizedIsInitialized = -1;
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+            byte isInitialized = memoizedIsInitialized;
+            if (isInitialized == 1) return true;
+            if (isInitialized == 0) return false;
+
+            memoizedIsInitialized = 1;
+            return true;
+        }
+
+        @java.lang.Override
+        public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+            for (int i = 0; i < payloads_.size(); i++) {
+                output.writeMessage(1, payloads_.get(i));
+            }
+            unknownFields.writeTo(output);
+        }
+
+        @java.lang.Override
+        public int getSerializedSize() {
+            int size = memoizedSize;
+            if (size != -1) return size;
+
+            size = 0;
+            for (int i = 0; i < payloads_.size(); i++) {
+                size += com.google.protobuf.CodedOutputStream.computeMessageSize(1, payloads_.get(i));
+            }
+            size += unknownFields.getSerializedSize();
+            memoizedSize = size;
+            return size;
+        }
+
+        @java.lang.Override
+        public boolean equals(final java.lang.Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Message.CallTargetBatchPayload)) {
+                return super.equals(obj);
+            }
+            Message.CallTargetBatchPayload other = (Message.CallTargetBatchPayload) obj;
+
+            if (!getPayloadsList().equals(other.getPayloadsList())) return false;
+            if (!unknownFields.equals(other.unknownFields)) return false;
+            return true;
+        }
+
+        @java.lang.Override
+        public int hashCode() {
+            if (memoizedHashCode != 0) {
+                return memoizedHashCode;
+            }
+            int hash = 41;
+            hash = (19 * hash) + getDescriptor().hashCode();
+            if (getPayloadsCount() > 0) {
+                hash = (37 * hash) + PAYLOADS_FIELD_NUMBER;
+                hash = (53 * hash) + getPayloadsList().hashCode();
+            }
+            hash = (29 * hash) + unknownFields.hashCode();
+            memoizedHashCode = hash;
+            return hash;
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(java.nio.ByteBuffer data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(
+            java.nio.ByteBuffer data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(java.io.InputStream input) throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchPayload parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseDelimitedWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchPayload parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseDelimitedWithIOException(
+                PARSER,
+                input,
+                extensionRegistry
+            );
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchPayload parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        @java.lang.Override
+        public Builder newBuilderForType() {
+            return newBuilder();
+        }
+
+        public static Builder newBuilder() {
+            return DEFAULT_INSTANCE.toBuilder();
+        }
+
+        public static Builder newBuilder(Message.CallTargetBatchPayload prototype) {
+            return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+        }
+
+        @java.lang.Override
+        public Builder toBuilder() {
+            return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+        }
+
+        @java.lang.Override
+        protected Builder newBuilderForType(com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+            Builder builder = new Builder(parent);
+            return builder;
+        }
+
+        /**
+         * Protobuf type {@code CallTargetBatchPayload}
+         */
+        public static final class Builder
+            extends com.google.protobuf.GeneratedMessageV3.Builder<Builder>
+            implements
+                // @@protoc_insertion_point(builder_implements:CallTargetBatchPayload)
+                Message.CallTargetBatchPayloadOrBuilder {
+
+            public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
+                return Message.internal_static_CallTargetBatchPayload_descriptor;
+            }
+
+            @java.lang.Override
+            protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
+                return Message.internal_static_CallTargetBatchPayload_fieldAccessorTable.ensureFieldAccessorsInitialized(
+                    Message.CallTargetBatchPayload.class,
+                    Message.CallTargetBatchPayload.Builder.class
+                );
+            }
+
+            // Construct using Message.CallTargetBatchPayload.newBuilder()
+            private Builder() {
+                maybeForceBuilderInitialization();
+            }
+
+            private Builder(com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+                super(parent);
+                maybeForceBuilderInitialization();
+            }
+
+            private void maybeForceBuilderInitialization() {
+                if (com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders) {
+                    getPayloadsFieldBuilder();
+                }
+            }
+
+            @java.lang.Override
+            public Builder clear() {
+                super.clear();
+                if (payloadsBuilder_ == null) {
+                    payloads_ = java.util.Collections.emptyList();
+                    bitField0_ = (bitField0_ & ~0x00000001);
+                } else {
+                    payloadsBuilder_.clear();
+                }
+                return this;
+            }
+
+            @java.lang.Override
+            public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
+                return Message.internal_static_CallTargetBatchPayload_descriptor;
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchPayload getDefaultInstanceForType() {
+                return Message.CallTargetBatchPayload.getDefaultInstance();
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchPayload build() {
+                Message.CallTargetBatchPayload result = buildPartial();
+                if (!result.isInitialized()) {
+                    throw newUninitializedMessageException(result);
+                }
+                return result;
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchPayload buildPartial() {
+                Message.CallTargetBatchPayload result = new Message.CallTargetBatchPayload(this);
+                int from_bitField0_ = bitField0_;
+                if (payloadsBuilder_ == null) {
+                    if (((bitField0_ & 0x00000001) != 0)) {
+                        payloads_ = java.util.Collections.unmodifiableList(payloads_);
+                        bitField0_ = (bitField0_ & ~0x00000001);
+                    }
+                    result.payloads_ = payloads_;
+                } else {
+                    result.payloads_ = payloadsBuilder_.build();
+                }
+                onBuilt();
+                return result;
+            }
+
+            @java.lang.Override
+            public Builder clone() {
+                return super.clone();
+            }
+
+            @java.lang.Override
+            public Builder setField(com.google.protobuf.Descriptors.FieldDescriptor field, java.lang.Object value) {
+                return super.setField(field, value);
+            }
+
+            @java.lang.Override
+            public Builder clearField(com.google.protobuf.Descriptors.FieldDescriptor field) {
+                return super.clearField(field);
+            }
+
+            @java.lang.Override
+            public Builder clearOneof(com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+                return super.clearOneof(oneof);
+            }
+
+            @java.lang.Override
+            public Builder setRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                int index,
+                java.lang.Object value
+            ) {
+                return super.setRepeatedField(field, index, value);
+            }
+
+            @java.lang.Override
+            public Builder addRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                java.lang.Object value
+            ) {
+                return super.addRepeatedField(field, value);
+            }
+
+            @java.lang.Override
+            public Builder mergeFrom(com.google.protobuf.Message other) {
+                if (other instanceof Message.CallTargetBatchPayload) {
+                    return mergeFrom((Message.CallTargetBatchPayload) other);
+                } else {
+                    super.mergeFrom(other);
+                    return this;
+                }
+            }
+
+            public Builder mergeFrom(Message.CallTargetBatchPayload other) {
+                if (other == Message.CallTargetBatchPayload.getDefaultInstance()) return this;
+                if (payloadsBuilder_ == null) {
+                    if (!other.payloads_.isEmpty()) {
+                        if (payloads_.isEmpty()) {
+                            payloads_ = other.payloads_;
+                            bitField0_ = (bitField0_ & ~0x00000001);
+                        } else {
+                            ensurePayloadsIsMutable();
+                            payloads_.addAll(other.payloads_);
+                        }
+                        onChanged();
+                    }
+                } else {
+                    if (!other.payloads_.isEmpty()) {
+                        if (payloadsBuilder_.isEmpty()) {
+                            payloadsBuilder_.dispose();
+                            payloadsBuilder_ = null;
+                            payloads_ = other.payloads_;
+                            bitField0_ = (bitField0_ & ~0x00000001);
+                            payloadsBuilder_ =
+                                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders
+                                    ? getPayloadsFieldBuilder()
+                                    : null;
+                        } else {
+                            payloadsBuilder_.addAllMessages(other.payloads_);
+                        }
+                    }
+                }
+                this.mergeUnknownFields(other.unknownFields);
+                onChanged();
+                return this;
+            }
+
+            @java.lang.Override
+            public final boolean isInitialized() {
+                return true;
+            }
+
+            @java.lang.Override
+            public Builder mergeFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry
+            )
+                throws java.io.IOException {
+                Message.CallTargetBatchPayload parsedMessage = null;
+                try {
+                    parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                    parsedMessage = (Message.CallTargetBatchPayload) e.getUnfinishedMessage();
+                    throw e.unwrapIOException();
+                } finally {
+                    if (parsedMessage != null) {
+                        mergeFrom(parsedMessage);
+                    }
+                }
+                return this;
+            }
+
+            private int bitField0_;
+
+            private java.util.List<Message.CallTargetPayload> payloads_ = java.util.Collections.emptyList();
+
+            private void ensurePayloadsIsMutable() {
+                if (!((bitField0_ & 0x00000001) != 0)) {
+                    payloads_ = new java.util.ArrayList<Message.CallTargetPayload>(payloads_);
+                    bitField0_ |= 0x00000001;
+                }
+            }
+
+            private com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetPayload, Message.CallTargetPayload.Builder, Message.CallTargetPayloadOrBuilder> payloadsBuilder_;
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public java.util.List<Message.CallTargetPayload> getPayloadsList() {
+                if (payloadsBuilder_ == null) {
+                    return java.util.Collections.unmodifiableList(payloads_);
+                } else {
+                    return payloadsBuilder_.getMessageList();
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public int getPayloadsCount() {
+                if (payloadsBuilder_ == null) {
+                    return payloads_.size();
+                } else {
+                    return payloadsBuilder_.getCount();
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Message.CallTargetPayload getPayloads(int index) {
+                if (payloadsBuilder_ == null) {
+                    return payloads_.get(index);
+                } else {
+                    return payloadsBuilder_.getMessage(index);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder setPayloads(int index, Message.CallTargetPayload value) {
+                if (payloadsBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensurePayloadsIsMutable();
+                    payloads_.set(index, value);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.setMessage(index, value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder setPayloads(int index, Message.CallTargetPayload.Builder builderForValue) {
+                if (payloadsBuilder_ == null) {
+                    ensurePayloadsIsMutable();
+                    payloads_.set(index, builderForValue.build());
+                    onChanged();
+                } else {
+                    payloadsBuilder_.setMessage(index, builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder addPayloads(Message.CallTargetPayload value) {
+                if (payloadsBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensurePayloadsIsMutable();
+                    payloads_.add(value);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.addMessage(value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder addPayloads(int index, Message.CallTargetPayload value) {
+                if (payloadsBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensurePayloadsIsMutable();
+                    payloads_.add(index, value);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.addMessage(index, value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder addPayloads(Message.CallTargetPayload.Builder builderForValue) {
+                if (payloadsBuilder_ == null) {
+                    ensurePayloadsIsMutable();
+                    payloads_.add(builderForValue.build());
+                    onChanged();
+                } else {
+                    payloadsBuilder_.addMessage(builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder addPayloads(int index, Message.CallTargetPayload.Builder builderForValue) {
+                if (payloadsBuilder_ == null) {
+                    ensurePayloadsIsMutable();
+                    payloads_.add(index, builderForValue.build());
+                    onChanged();
+                } else {
+                    payloadsBuilder_.addMessage(index, builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder addAllPayloads(java.lang.Iterable<? extends Message.CallTargetPayload> values) {
+                if (payloadsBuilder_ == null) {
+                    ensurePayloadsIsMutable();
+                    com.google.protobuf.AbstractMessageLite.Builder.addAll(values, payloads_);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.addAllMessages(values);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder clearPayloads() {
+                if (payloadsBuilder_ == null) {
+                    payloads_ = java.util.Collections.emptyList();
+                    bitField0_ = (bitField0_ & ~0x00000001);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.clear();
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Builder removePayloads(int index) {
+                if (payloadsBuilder_ == null) {
+                    ensurePayloadsIsMutable();
+                    payloads_.remove(index);
+                    onChanged();
+                } else {
+                    payloadsBuilder_.remove(index);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Message.CallTargetPayload.Builder getPayloadsBuilder(int index) {
+                return getPayloadsFieldBuilder().getBuilder(index);
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Message.CallTargetPayloadOrBuilder getPayloadsOrBuilder(int index) {
+                if (payloadsBuilder_ == null) {
+                    return payloads_.get(index); } else {
+                    return payloadsBuilder_.getMessageOrBuilder(index);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public java.util.List<? extends Message.CallTargetPayloadOrBuilder> getPayloadsOrBuilderList() {
+                if (payloadsBuilder_ != null) {
+                    return payloadsBuilder_.getMessageOrBuilderList();
+                } else {
+                    return java.util.Collections.unmodifiableList(payloads_);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Message.CallTargetPayload.Builder addPayloadsBuilder() {
+                return getPayloadsFieldBuilder().addBuilder(Message.CallTargetPayload.getDefaultInstance());
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public Message.CallTargetPayload.Builder addPayloadsBuilder(int index) {
+                return getPayloadsFieldBuilder().addBuilder(index, Message.CallTargetPayload.getDefaultInstance());
+            }
+
+            /**
+             * <code>repeated .CallTargetPayload payloads = 1;</code>
+             */
+            public java.util.List<Message.CallTargetPayload.Builder> getPayloadsBuilderList() {
+                return getPayloadsFieldBuilder().getBuilderList();
+            }
+
+            private com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetPayload, Message.CallTargetPayload.Builder, Message.CallTargetPayloadOrBuilder> getPayloadsFieldBuilder() {
+                if (payloadsBuilder_ == null) {
+                    payloadsBuilder_ =
+                        new com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetPayload, Message.CallTargetPayload.Builder, Message.CallTargetPayloadOrBuilder>(
+                            payloads_,
+                            ((bitField0_ & 0x00000001) != 0),
+                            getParentForChildren(),
+                            isClean()
+                        );
+                    payloads_ = null;
+                }
+                return payloadsBuilder_;
+            }
+
+            @java.lang.Override
+            public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.setUnknownFields(unknownFields);
+            }
+
+            @java.lang.Override
+            public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.mergeUnknownFields(unknownFields);
+            }
+        // @@protoc_insertion_point(builder_scope:CallTargetBatchPayload)
+        }
+
+        // @@protoc_insertion_point(class_scope:CallTargetBatchPayload)
+        private static final Message.CallTargetBatchPayload DEFAULT_INSTANCE;
+
+        static {
+            DEFAULT_INSTANCE = new Message.CallTargetBatchPayload();
+        }
+
+        public static Message.CallTargetBatchPayload getDefaultInstance() {
+            return DEFAULT_INSTANCE;
+        }
+
+        private static final com.google.protobuf.Parser<CallTargetBatchPayload> PARSER = new com.google.protobuf.AbstractParser<CallTargetBatchPayload>() {
+
+            @java.lang.Override
+            public CallTargetBatchPayload parsePartialFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry
+            )
+                throws com.google.protobuf.InvalidProtocolBufferException {
+                return new CallTargetBatchPayload(input, extensionRegistry);
+            }
+        };
+
+        public static com.google.protobuf.Parser<CallTargetBatchPayload> parser() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<CallTargetBatchPayload> getParserForType() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public Message.CallTargetBatchPayload getDefaultInstanceForType() {
+            return DEFAULT_INSTANCE;
+        }
+    }
+
+    public interface CallTargetBatchResponseOrBuilder
+        extends
+            // @@protoc_insertion_point(interface_extends:CallTargetBatchResponse)
+            com.google.protobuf.MessageOrBuilder {
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        java.util.List<Message.CallTargetResponse> getResponsesList();
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        Message.CallTargetResponse getResponses(int index);
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        int getResponsesCount();
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        java.util.List<? extends Message.CallTargetResponseOrBuilder> getResponsesOrBuilderList();
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        Message.CallTargetResponseOrBuilder getResponsesOrBuilder(int index);
+    }
+
+    /**
+     * Protobuf type {@code CallTargetBatchResponse}
+     */
+    public static final class CallTargetBatchResponse
+        extends com.google.protobuf.GeneratedMessageV3
+        implements
+            // @@protoc_insertion_point(message_implements:CallTargetBatchResponse)
+            CallTargetBatchResponseOrBuilder {
+        private static final long serialVersionUID = 0L;
+
+        // Use CallTargetBatchResponse.newBuilder() to construct.
+        private CallTargetBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+            super(builder);
+        }
+
+        private CallTargetBatchResponse() {
+            responses_ = java.util.Collections.emptyList();
+        }
+
+        @java.lang.Override
+        @SuppressWarnings({ "unused" })
+        protected java.lang.Object newInstance(UnusedPrivateParameter unused) {
+            return new CallTargetBatchResponse();
+        }
+
+        @java.lang.Override
+        public final com.google.protobuf.UnknownFieldSet getUnknownFields() {
+            return this.unknownFields;
+        }
+
+        private CallTargetBatchResponse(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            this();
+            if (extensionRegistry == null) {
+                throw new java.lang.NullPointerException();
+            }
+            int mutable_bitField0_ = 0;
+            com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder();
+            try {
+                boolean done = false;
+                while (!done) {
+                    int tag = input.readTag();
+                    switch (tag) {
+                        case 0:
+                            done = true;
+                            break;
+                        case 10:
+                            {
+                                if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                                    responses_ = new java.util.ArrayList<Message.CallTargetResponse>();
+                                    mutable_bitField0_ |= 0x00000001;
+                                }
+                                responses_.add(
+                                    input.readMessage(Message.CallTargetResponse.parser(), extensionRegistry)
+                                );
+                                break;
+                            }
+                        default:
+                            {
+                                if (!parseUnknownField(input, unknownFields, extensionRegistry, tag)) {
+                                    done = true;
+                                }
+                                break;
+                            }
+                    }
+                }
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                throw e.setUnfinishedMessage(this);
+            } catch (java.io.IOException e) {
+                throw new com.google.protobuf.InvalidProtocolBufferException(e).setUnfinishedMessage(this);
+            } finally {
+                if (((mutable_bitField0_ & 0x00000001) != 0)) {
+                    responses_ = java.util.Collections.unmodifiableList(responses_);
+                }
+                this.unknownFields = unknownFields.build();
+                makeExtensionsImmutable();
+            }
+        }
+
+        public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
+            return Message.internal_static_CallTargetBatchResponse_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
+            return Message.internal_static_CallTargetBatchResponse_fieldAccessorTable.ensureFieldAccessorsInitialized(
+                Message.CallTargetBatchResponse.class,
+                Message.CallTargetBatchResponse.Builder.class
+            );
+        }
+
+        public static final int RESPONSES_FIELD_NUMBER = 1;
+        private java.util.List<Message.CallTargetResponse> responses_;
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        public java.util.List<Message.CallTargetResponse> getResponsesList() {
+            return responses_;
+        }
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        public java.util.List<? extends Message.CallTargetResponseOrBuilder> getResponsesOrBuilderList() {
+            return responses_;
+        }
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        public int getResponsesCount() {
+            return responses_.size();
+        }
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        public Message.CallTargetResponse getResponses(int index) {
+            return responses_.get(index);
+        }
+
+        /**
+         * <code>repeated .CallTargetResponse responses = 1;</code>
+         */
+        public Message.CallTargetResponseOrBuilder getResponsesOrBuilder(int index) {
+            return responses_.get(index);
+        }
+
+        private byte memoizedIsInitialized = -1;
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+            byte isInitialized = memoizedIsInitialized;
+            if (isInitialized == 1) return true;
+            if (isInitialized == 0) return false;
+
+            memoizedIsInitialized = 1;
+            return true;
+        }
+
+        @java.lang.Override
+        public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+            for (int i = 0; i < responses_.size(); i++) {
+                output.writeMessage(1, responses_.get(i));
+            }
+            unknownFields.writeTo(output);
+        }
+
+        @java.lang.Override
+        public int getSerializedSize() {
+            int size = memoizedSize;
+            if (size != -1) return size;
+
+            size = 0;
+            for (int i = 0; i < responses_.size(); i++) {
+                size += com.google.protobuf.CodedOutputStream.computeMessageSize(1, responses_.get(i));
+            }
+            size += unknownFields.getSerializedSize();
+            memoizedSize = size;
+            return size;
+        }
+
+        @java.lang.Override
+        public boolean equals(final java.lang.Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Message.CallTargetBatchResponse)) {
+                return super.equals(obj);
+            }
+            Message.CallTargetBatchResponse other = (Message.CallTargetBatchResponse) obj;
+
+            if (!getResponsesList().equals(other.getResponsesList())) return false;
+            if (!unknownFields.equals(other.unknownFields)) return false;
+            return true;
+        }
+
+        @java.lang.Override
+        public int hashCode() {
+            if (memoizedHashCode != 0) {
+                return memoizedHashCode;
+            }
+            int hash = 41;
+            hash = (19 * hash) + getDescriptor().hashCode();
+            if (getResponsesCount() > 0) {
+                hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+                hash = (53 * hash) + getResponsesList().hashCode();
+            }
+            hash = (29 * hash) + unknownFields.hashCode();
+            memoizedHashCode = hash;
+            return hash;
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(java.nio.ByteBuffer data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(
+            java.nio.ByteBuffer data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(java.io.InputStream input) throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        public static Message.CallTargetBatchResponse parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseDelimitedWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchResponse parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseDelimitedWithIOException(
+                PARSER,
+                input,
+                extensionRegistry
+            );
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input);
+        }
+
+        public static Message.CallTargetBatchResponse parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry
+        )
+            throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3.parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        @java.lang.Override
+        public Builder newBuilderForType() {
+            return newBuilder();
+        }
+
+        public static Builder newBuilder() {
+            return DEFAULT_INSTANCE.toBuilder();
+        }
+
+        public static Builder newBuilder(Message.CallTargetBatchResponse prototype) {
+            return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+        }
+
+        @java.lang.Override
+        public Builder toBuilder() {
+            return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+        }
+
+        @java.lang.Override
+        protected Builder newBuilderForType(com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+            Builder builder = new Builder(parent);
+            return builder;
+        }
+
+        /**
+         * Protobuf type {@code CallTargetBatchResponse}
+         */
+        public static final class Builder
+            extends com.google.protobuf.GeneratedMessageV3.Builder<Builder>
+            implements
+                // @@protoc_insertion_point(builder_implements:CallTargetBatchResponse)
+                Message.CallTargetBatchResponseOrBuilder {
+
+            public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
+                return Message.internal_static_CallTargetBatchResponse_descriptor;
+            }
+
+            @java.lang.Override
+            protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internalGetFieldAccessorTable() {
+                return Message.internal_static_CallTargetBatchResponse_fieldAccessorTable.ensureFieldAccessorsInitialized(
+                    Message.CallTargetBatchResponse.class,
+                    Message.CallTargetBatchResponse.Builder.class
+                );
+            }
+
+            // Construct using Message.CallTargetBatchResponse.newBuilder()
+            private Builder() {
+                maybeForceBuilderInitialization();
+            }
+
+            private Builder(com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+                super(parent);
+                maybeForceBuilderInitialization();
+            }
+
+            private void maybeForceBuilderInitialization() {
+                if (com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders) {
+                    getResponsesFieldBuilder();
+                }
+            }
+
+            @java.lang.Override
+            public Builder clear() {
+                super.clear();
+                if (responsesBuilder_ == null) {
+                    responses_ = java.util.Collections.emptyList();
+                    bitField0_ = (bitField0_ & ~0x00000001);
+                } else {
+                    responsesBuilder_.clear();
+                }
+                return this;
+            }
+
+            @java.lang.Override
+            public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
+                return Message.internal_static_CallTargetBatchResponse_descriptor;
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchResponse getDefaultInstanceForType() {
+                return Message.CallTargetBatchResponse.getDefaultInstance();
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchResponse build() {
+                Message.CallTargetBatchResponse result = buildPartial();
+                if (!result.isInitialized()) {
+                    throw newUninitializedMessageException(result);
+                }
+                return result;
+            }
+
+            @java.lang.Override
+            public Message.CallTargetBatchResponse buildPartial() {
+                Message.CallTargetBatchResponse result = new Message.CallTargetBatchResponse(this);
+                int from_bitField0_ = bitField0_;
+                if (responsesBuilder_ == null) {
+                    if (((bitField0_ & 0x00000001) != 0)) {
+                        responses_ = java.util.Collections.unmodifiableList(responses_);
+                        bitField0_ = (bitField0_ & ~0x00000001);
+                    }
+                    result.responses_ = responses_;
+                } else {
+                    result.responses_ = responsesBuilder_.build();
+                }
+                onBuilt();
+                return result;
+            }
+
+            @java.lang.Override
+            public Builder clone() {
+                return super.clone();
+            }
+
+            @java.lang.Override
+            public Builder setField(com.google.protobuf.Descriptors.FieldDescriptor field, java.lang.Object value) {
+                return super.setField(field, value);
+            }
+
+            @java.lang.Override
+            public Builder clearField(com.google.protobuf.Descriptors.FieldDescriptor field) {
+                return super.clearField(field);
+            }
+
+            @java.lang.Override
+            public Builder clearOneof(com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+                return super.clearOneof(oneof);
+            }
+
+            @java.lang.Override
+            public Builder setRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                int index,
+                java.lang.Object value
+            ) {
+                return super.setRepeatedField(field, index, value);
+            }
+
+            @java.lang.Override
+            public Builder addRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                java.lang.Object value
+            ) {
+                return super.addRepeatedField(field, value);
+            }
+
+            @java.lang.Override
+            public Builder mergeFrom(com.google.protobuf.Message other) {
+                if (other instanceof Message.CallTargetBatchResponse) {
+                    return mergeFrom((Message.CallTargetBatchResponse) other);
+                } else {
+                    super.mergeFrom(other);
+                    return this;
+                }
+            }
+
+            public Builder mergeFrom(Message.CallTargetBatchResponse other) {
+                if (other == Message.CallTargetBatchResponse.getDefaultInstance()) return this;
+                if (responsesBuilder_ == null) {
+                    if (!other.responses_.isEmpty()) {
+                        if (responses_.isEmpty()) {
+                            responses_ = other.responses_;
+                            bitField0_ = (bitField0_ & ~0x00000001);
+                        } else {
+                            ensureResponsesIsMutable();
+                            responses_.addAll(other.responses_);
+                        }
+                        onChanged();
+                    }
+                } else {
+                    if (!other.responses_.isEmpty()) {
+                        if (responsesBuilder_.isEmpty()) {
+                            responsesBuilder_.dispose();
+                            responsesBuilder_ = null;
+                            responses_ = other.responses_;
+                            bitField0_ = (bitField0_ & ~0x00000001);
+                            responsesBuilder_ =
+                                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders
+                                    ? getResponsesFieldBuilder()
+                                    : null;
+                        } else {
+                            responsesBuilder_.addAllMessages(other.responses_);
+                        }
+                    }
+                }
+                this.mergeUnknownFields(other.unknownFields);
+                onChanged();
+                return this;
+            }
+
+            @java.lang.Override
+            public final boolean isInitialized() {
+                return true;
+            }
+
+            @java.lang.Override
+            public Builder mergeFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry
+            )
+                throws java.io.IOException {
+                Message.CallTargetBatchResponse parsedMessage = null;
+                try {
+                    parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                    parsedMessage = (Message.CallTargetBatchResponse) e.getUnfinishedMessage();
+                    throw e.unwrapIOException();
+                } finally {
+                    if (parsedMessage != null) {
+                        mergeFrom(parsedMessage);
+                    }
+                }
+                return this;
+            }
+
+            private int bitField0_;
+
+            private java.util.List<Message.CallTargetResponse> responses_ = java.util.Collections.emptyList();
+
+            private void ensureResponsesIsMutable() {
+                if (!((bitField0_ & 0x00000001) != 0)) {
+                    responses_ = new java.util.ArrayList<Message.CallTargetResponse>(responses_);
+                    bitField0_ |= 0x00000001;
+                }
+            }
+
+            private com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetResponse, Message.CallTargetResponse.Builder, Message.CallTargetResponseOrBuilder> responsesBuilder_;
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public java.util.List<Message.CallTargetResponse> getResponsesList() {
+                if (responsesBuilder_ == null) {
+                    return java.util.Collections.unmodifiableList(responses_);
+                } else {
+                    return responsesBuilder_.getMessageList();
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public int getResponsesCount() {
+                if (responsesBuilder_ == null) {
+                    return responses_.size();
+                } else {
+                    return responsesBuilder_.getCount();
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Message.CallTargetResponse getResponses(int index) {
+                if (responsesBuilder_ == null) {
+                    return responses_.get(index);
+                } else {
+                    return responsesBuilder_.getMessage(index);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder setResponses(int index, Message.CallTargetResponse value) {
+                if (responsesBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensureResponsesIsMutable();
+                    responses_.set(index, value);
+                    onChanged();
+                } else {
+                    responsesBuilder_.setMessage(index, value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder setResponses(int index, Message.CallTargetResponse.Builder builderForValue) {
+                if (responsesBuilder_ == null) {
+                    ensureResponsesIsMutable();
+                    responses_.set(index, builderForValue.build());
+                    onChanged();
+                } else {
+                    responsesBuilder_.setMessage(index, builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder addResponses(Message.CallTargetResponse value) {
+                if (responsesBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensureResponsesIsMutable();
+                    responses_.add(value);
+                    onChanged();
+                } else {
+                    responsesBuilder_.addMessage(value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder addResponses(int index, Message.CallTargetResponse value) {
+                if (responsesBuilder_ == null) {
+                    if (value == null) {
+                        throw new NullPointerException();
+                    }
+                    ensureResponsesIsMutable();
+                    responses_.add(index, value);
+                    onChanged();
+                } else {
+                    responsesBuilder_.addMessage(index, value);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder addResponses(Message.CallTargetResponse.Builder builderForValue) {
+                if (responsesBuilder_ == null) {
+                    ensureResponsesIsMutable();
+                    responses_.add(builderForValue.build());
+                    onChanged();
+                } else {
+                    responsesBuilder_.addMessage(builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder addResponses(int index, Message.CallTargetResponse.Builder builderForValue) {
+                if (responsesBuilder_ == null) {
+                    ensureResponsesIsMutable();
+                    responses_.add(index, builderForValue.build());
+                    onChanged();
+                } else {
+                    responsesBuilder_.addMessage(index, builderForValue.build());
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder addAllResponses(java.lang.Iterable<? extends Message.CallTargetResponse> values) {
+                if (responsesBuilder_ == null) {
+                    ensureResponsesIsMutable();
+                    com.google.protobuf.AbstractMessageLite.Builder.addAll(values, responses_);
+                    onChanged();
+                } else {
+                    responsesBuilder_.addAllMessages(values);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder clearResponses() {
+                if (responsesBuilder_ == null) {
+                    responses_ = java.util.Collections.emptyList();
+                    bitField0_ = (bitField0_ & ~0x00000001);
+                    onChanged();
+                } else {
+                    responsesBuilder_.clear();
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Builder removeResponses(int index) {
+                if (responsesBuilder_ == null) {
+                    ensureResponsesIsMutable();
+                    responses_.remove(index);
+                    onChanged();
+                } else {
+                    responsesBuilder_.remove(index);
+                }
+                return this;
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Message.CallTargetResponse.Builder getResponsesBuilder(int index) {
+                return getResponsesFieldBuilder().getBuilder(index);
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Message.CallTargetResponseOrBuilder getResponsesOrBuilder(int index) {
+                if (responsesBuilder_ == null) {
+                    return responses_.get(index); } else {
+                    return responsesBuilder_.getMessageOrBuilder(index);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public java.util.List<? extends Message.CallTargetResponseOrBuilder> getResponsesOrBuilderList() {
+                if (responsesBuilder_ != null) {
+                    return responsesBuilder_.getMessageOrBuilderList();
+                } else {
+                    return java.util.Collections.unmodifiableList(responses_);
+                }
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Message.CallTargetResponse.Builder addResponsesBuilder() {
+                return getResponsesFieldBuilder().addBuilder(Message.CallTargetResponse.getDefaultInstance());
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public Message.CallTargetResponse.Builder addResponsesBuilder(int index) {
+                return getResponsesFieldBuilder().addBuilder(index, Message.CallTargetResponse.getDefaultInstance());
+            }
+
+            /**
+             * <code>repeated .CallTargetResponse responses = 1;</code>
+             */
+            public java.util.List<Message.CallTargetResponse.Builder> getResponsesBuilderList() {
+                return getResponsesFieldBuilder().getBuilderList();
+            }
+
+            private com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetResponse, Message.CallTargetResponse.Builder, Message.CallTargetResponseOrBuilder> getResponsesFieldBuilder() {
+                if (responsesBuilder_ == null) {
+                    responsesBuilder_ =
+                        new com.google.protobuf.RepeatedFieldBuilderV3<Message.CallTargetResponse, Message.CallTargetResponse.Builder, Message.CallTargetResponseOrBuilder>(
+                            responses_,
+                            ((bitField0_ & 0x00000001) != 0),
+                            getParentForChildren(),
+                            isClean()
+                        );
+                    responses_ = null;
+                }
+                return responsesBuilder_;
+            }
+
+            @java.lang.Override
+            public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.setUnknownFields(unknownFields);
+            }
+
+            @java.lang.Override
+            public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.mergeUnknownFields(unknownFields);
+            }
+        // @@protoc_insertion_point(builder_scope:CallTargetBatchResponse)
+        }
+
+        // @@protoc_insertion_point(class_scope:CallTargetBatchResponse)
+        private static final Message.CallTargetBatchResponse DEFAULT_INSTANCE;
+
+        static {
+            DEFAULT_INSTANCE = new Message.CallTargetBatchResponse();
+        }
+
+        public static Message.CallTargetBatchResponse getDefaultInstance() {
+            return DEFAULT_INSTANCE;
+        }
+
+        private static final com.google.protobuf.Parser<CallTargetBatchResponse> PARSER = new com.google.protobuf.AbstractParser<CallTargetBatchResponse>() {
+
+            @java.lang.Override
+            public CallTargetBatchResponse parsePartialFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry
+            )
+                throws com.google.protobuf.InvalidProtocolBufferException {
+                return new CallTargetBatchResponse(input, extensionRegistry);
+            }
+        };
+
+        public static com.google.protobuf.Parser<CallTargetBatchResponse> parser() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Parser<CallTargetBatchResponse> getParserForType() {
+            return PARSER;
+        }
+
+        @java.lang.Override
+        public Message.CallTargetBatchResponse getDefaultInstanceForType() {
+            return DEFAULT_INSTANCE;
+        }
+    }
+
+    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetPayload_descriptor;
+    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetPayload_fieldAccessorTable;
+    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetPayload_HeadersEntry_descriptor;
+    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetPayload_HeadersEntry_fieldAccessorTable;
+    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetResponse_descriptor;
+    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetResponse_fieldAccessorTable;
+    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetBatchPayload_descriptor;
+    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetBatchPayload_fieldAccessorTable;
+    private static final com.google.protobuf.Descriptors.Descriptor internal_static_CallTargetBatchResponse_descriptor;
+    private static final com.google.protobuf.GeneratedMessageV3.FieldAccessorTable internal_static_CallTargetBatchResponse_fieldAccessorTable;
+
+    public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
 
     static {
         java.lang.String[] descriptorData = {
-            "\n\rmessage.proto\"w\n\021CallTargetPayload\022\024\n\014" +
-                "recordOffset\030\001 \001(\003\022\027\n\017recordTimestamp\030\002 " +
-                "\001(\003\022\r\n\005topic\030\003 \001(\t\022\017\n\007msgJson\030\004 \001(\t\022\023\n\013h" +
-                "eadersJson\030\005 \001(\t\"_\n\022CallTargetResponse\022\022" +
-                "\n\nstatusCode\030\001 \001(\005\022\031\n\021receivedTimestamp\030" +
-                "\002 \001(\003\022\032\n\022completedTimestamp\030\003 \001(\0032E\n\nCal" +
-                "lTarget\0227\n\ncallTarget\022\022.CallTargetPayloa" +
-                "d\032\023.CallTargetResponse\"\000b\006proto3"
+            "\n\rmessage.proto\"\226\002\n\021CallTargetPayload\022\024\n" +
+                "\014recordOffset\030\001 \001(\003\022\027\n\017recordTimestamp\030\002" +
+                " \001(\003\022\r\n\005topic\030\003 \001(\t\022\017\n\007msgJson\030\004 \001(\t\022\023\n\013" +
+                "headersJson\030\005 \001(\t\022\027\n\017recordPartition\030\006 \001" +
+                "(\005\022\020\n\010msgBytes\030\007 \001(\014\0220\n\007headers\030\010 \003(\0132\037." +
+                "CallTargetPayload.HeadersEntry\022\020\n\010sequen" +
+                "ce\030\t \001(\003\032.\n\014HeadersEntry\022\013\n\003key\030\001 \001(\t\022\r\n" +
+                "\005value\030\002 \001(\014:\0028\001\"\257\001\n\022CallTargetResponse\022" +
+                "\022\n\nstatusCode\030\001 \001(\005\022\031\n\021receivedTimestamp" +
+                "\030\002 \001(\003\022\032\n\022completedTimestamp\030\003 \001(\003\022\024\n\014re" +
+                "cordOffset\030\004 \001(\003\022\027\n\017recordPartition\030\005 \001(" +
+                "\005\022\r\n\005topic\030\006 \001(\t\022\020\n\010sequence\030\007 \001(\003\">\n\026Ca" +
+                "llTargetBatchPayload\022$\n\010payloads\030\001 \003(\0132\022" +
+                ".CallTargetPayload\"A\n\027CallTargetBatchRes" +
+                "ponse\022&\n\tresponses\030\001 \003(\0132\023.CallTargetRes" +
+                "ponse2\320\001\n\nCallTarget\0227\n\ncallTarget\022\022.Cal" +
+                "lTargetPayload\032\023.CallTargetResponse\"\000\022F\n" +
+                "\017callTargetBatch\022\027.CallTargetBatchPayloa" +
+                "d\032\030.CallTargetBatchResponse\"\000\022A\n\020callTar" +
+                "getStream\022\022.CallTargetPayload\032\023.CallTarg" +
+                "etResponse\"\000(\0010\001b\006proto3"
         };
         descriptor =
             com.google.protobuf.Descriptors.FileDescriptor.internalBuildGeneratedFileFrom(
@@ -1696,13 +4212,32 @@ public final class Message {
         internal_static_CallTargetPayload_fieldAccessorTable =
             new com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
                 internal_static_CallTargetPayload_descriptor,
-                new java.lang.String[] { "RecordOffset", "RecordTimestamp", "Topic", "MsgJson", "HeadersJson", }
+                new java.lang.String[] { "RecordOffset", "RecordTimestamp", "Topic", "MsgJson", "HeadersJson", "RecordPartition", "MsgBytes", "Headers", "Sequence", }
+            );
+        internal_static_CallTargetPayload_HeadersEntry_descriptor =
+            internal_static_CallTargetPayload_descriptor.getNestedTypes().get(0);
+        internal_static_CallTargetPayload_HeadersEntry_fieldAccessorTable =
+            new com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+                internal_static_CallTargetPayload_HeadersEntry_descriptor,
+                new java.lang.String[] { "Key", "Value", }
             );
         internal_static_CallTargetResponse_descriptor = getDescriptor().getMessageTypes().get(1);
         internal_static_CallTargetResponse_fieldAccessorTable =
             new com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
                 internal_static_CallTargetResponse_descriptor,
-                new java.lang.String[] { "StatusCode", "ReceivedTimestamp", "CompletedTimestamp", }
+                new java.lang.String[] { "StatusCode", "ReceivedTimestamp", "CompletedTimestamp", "RecordOffset", "RecordPartition", "Topic", "Sequence", }
+            );
+        internal_static_CallTargetBatchPayload_descriptor = getDescriptor().getMessageTypes().get(2);
+        internal_static_CallTargetBatchPayload_fieldAccessorTable =
+            new com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+                internal_static_CallTargetBatchPayload_descriptor,
+                new java.lang.String[] { "Payloads", }
+            );
+        internal_static_CallTargetBatchResponse_descriptor = getDescriptor().getMessageTypes().get(3);
+        internal_static_CallTargetBatchResponse_fieldAccessorTable =
+            new com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+                internal_static_CallTargetBatchResponse_descriptor,
+                new java.lang.String[] { "Responses", }
             );
     }
 // @@protoc_insertion_point(outer_class_scope)
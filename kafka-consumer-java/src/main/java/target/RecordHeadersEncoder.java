@@ -0,0 +1,102 @@
+package target;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+class RecordHeadersEncoder {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(
+        () -> new StringBuilder(INITIAL_CAPACITY)
+    );
+
+    static String toJson(Headers headers) {
+        var json = buffer.get();
+        json.setLength(0);
+        json.append('{');
+        if (headers != null) {
+            var first = true;
+            for (Header header : headers) {
+                if (headers.lastHeader(header.key()) != header) {
+                    continue;
+                }
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, header.key());
+                json.append(':');
+                if (header.value() == null) {
+                    json.append("null");
+                } else {
+                    appendUtf8(json, header.value());
+                }
+            }
+        }
+        json.append('}');
+
+        var encoded = json.toString();
+        if (json.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.set(new StringBuilder(INITIAL_CAPACITY));
+        }
+        return encoded;
+    }
+
+    private static void appendUtf8(StringBuilder json, byte[] value) {
+        json.append('"');
+        for (var i = 0; i < value.length; i++) {
+            if (value[i] < 0) {
+                appendEscaped(json, new String(value, i, value.length - i, StandardCharsets.UTF_8));
+                break;
+            }
+            appendEscaped(json, (char) value[i]);
+        }
+        json.append('"');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (var i = 0; i < value.length(); i++) {
+            appendEscaped(json, value.charAt(i));
+        }
+    }
+
+    private static void appendEscaped(StringBuilder json, char c) {
+        switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\b':
+                json.append("\\b");
+                break;
+            case '\f':
+                json.append("\\f");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                } else {
+                    json.append(c);
+                }
+        }
+    }
+}
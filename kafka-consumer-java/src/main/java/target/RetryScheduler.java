@@ -0,0 +1,38 @@
+package target;
+
+import configuration.Config;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import net.jodah.failsafe.util.concurrent.Scheduler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import utils.HashedTimerWheel;
+
+public class RetryScheduler {
+    private final Scheduler scheduler = new HashedTimerWheel(
+        "retry-timer-wheel",
+        Config.RETRY_TIMER_TICK,
+        Config.RETRY_TIMER_WHEEL_SIZE,
+        TargetExecutors.completion
+    );
+    private final Map<ConsumerRecord<String, byte[]>, CompletableFuture<Void>> watched = new ConcurrentHashMap<>();
+
+    Scheduler scheduler() {
+        return scheduler;
+    }
+
+    public CompletableFuture<Void> whenBackingOff(ConsumerRecord<String, byte[]> record) {
+        return watched.computeIfAbsent(record, __ -> new CompletableFuture<>());
+    }
+
+    public void forget(ConsumerRecord<String, byte[]> record) {
+        watched.remove(record);
+    }
+
+    void backingOff(ConsumerRecord<String, byte[]> record) {
+        var backingOff = watched.remove(record);
+        if (backingOff != null) {
+            backingOff.complete(null);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package target;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import net.jodah.failsafe.function.ContextualSupplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.json.JSONArray;
+import org.json.JSONException;
+
+class TargetBatch {
+
+    static List<CompletableFuture<TargetResponse>> deliver(
+        List<ConsumerRecord<String, byte[]>> records,
+        CompletableFuture<List<TargetResponse>> batch,
+        TargetRetryPolicy retryPolicy,
+        Function<ConsumerRecord<String, byte[]>, CompletableFuture<TargetResponse>> send
+    ) {
+        var responses = new ArrayList<CompletableFuture<TargetResponse>>(records.size());
+        for (var i = 0; i < records.size(); i++) {
+            final var index = i;
+            final var record = records.get(i);
+            final var batched = new AtomicBoolean();
+            final ContextualSupplier<CompletionStage<TargetResponse>> completionStageContextualSupplier =
+                context -> batched.compareAndSet(false, true)
+                    ? batch.thenApply(batchResponses -> batchResponses.get(index))
+                    : send.apply(record);
+
+            responses.add(retryPolicy.execute(record, completionStageContextualSupplier));
+        }
+        return responses;
+    }
+
+    static List<TargetResponse> toTargetResponses(
+        String body,
+        int size,
+        int statusCode,
+        OptionalLong callLatency,
+        OptionalLong resultLatency,
+        OptionalLong retryAfter
+    ) {
+        var statusCodes = parseStatusCodes(body, size);
+        var responses = new ArrayList<TargetResponse>(size);
+        for (var i = 0; i < size; i++) {
+            responses.add(
+                new TargetResponse(
+                    statusCodes == null ? statusCode : statusCodes[i],
+                    callLatency,
+                    resultLatency,
+                    retryAfter
+                )
+            );
+        }
+        return responses;
+    }
+
+    private static int[] parseStatusCodes(String body, int size) {
+        try {
+            var json = new JSONArray(body);
+            if (json.length() != size) {
+                return null;
+            }
+            var statusCodes = new int[size];
+            for (var i = 0; i < size; i++) {
+                statusCodes[i] = json.getInt(i);
+            }
+            return statusCodes;
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package target;
+
+import configuration.Config;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import monitoring.Monitor;
+
+public class TargetCircuitBreaker {
+    private final String name;
+    private final List<Runnable> openListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+    private volatile ITarget target;
+    private CompletableFuture<Void> closed = CompletableFuture.completedFuture(null);
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public TargetCircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    public void setTarget(ITarget target) {
+        this.target = target;
+    }
+
+    public void onOpen(Runnable listener) {
+        openListeners.add(listener);
+    }
+
+    public void onClose(Runnable listener) {
+        closeListeners.add(listener);
+    }
+
+    public synchronized boolean isOpen() {
+        return !closed.isDone();
+    }
+
+    public synchronized CompletableFuture<Void> whenClosed() {
+        return closed;
+    }
+
+    public void record(boolean failed) {
+        int failures;
+        synchronized (this) {
+            if (!failed) {
+                consecutiveFailures = 0;
+                return;
+            }
+            if (isOpen() || ++consecutiveFailures < Config.CIRCUIT_BREAKER_FAILURE_THRESHOLD) {
+                return;
+            }
+            failures = consecutiveFailures;
+            consecutiveFailures = 0;
+            closed = new CompletableFuture<>();
+            openedAt = System.currentTimeMillis();
+        }
+        Monitor.circuitOpened(name, failures);
+        openListeners.forEach(Runnable::run);
+        scheduleProbe();
+    }
+
+    private void scheduleProbe() {
+        CompletableFuture
+            .delayedExecutor(Config.CIRCUIT_BREAKER_PROBE_INTERVAL, TimeUnit.MILLISECONDS, TargetExecutors.completion)
+            .execute(
+                () -> target
+                    .checkHealth()
+                    .handle((healthy, exception) -> exception == null && healthy)
+                    .thenAccept(
+                        healthy -> {
+                            if (healthy) {
+                                close();
+                            } else {
+                                scheduleProbe();
+                            }
+                        }
+                    )
+            );
+    }
+
+    private void close() {
+        CompletableFuture<Void> closed;
+        long openDuration;
+        synchronized (this) {
+            closed = this.closed;
+            openDuration = System.currentTimeMillis() - openedAt;
+        }
+        Monitor.circuitClosed(name, openDuration);
+        closeListeners.forEach(Runnable::run);
+        closed.complete(null);
+    }
+}
@@ -0,0 +1,33 @@
+package target;
+
+import configuration.Config;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import monitoring.Monitor;
+
+public class TargetExecutors {
+    static final ExecutorService http = create("target-http-client", Config.TARGET_HTTP_CLIENT_THREADS);
+    static final ExecutorService grpc = create("target-grpc-channel", Config.TARGET_GRPC_CHANNEL_THREADS);
+    static final ExecutorService completion = create("target-completion", Config.TARGET_COMPLETION_THREADS);
+
+    private static ExecutorService create(String name, int threads) {
+        var counter = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        Monitor.executorCreated(name, executor);
+        return executor;
+    }
+}
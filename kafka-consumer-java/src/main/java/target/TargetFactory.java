@@ -1,11 +1,44 @@
 package target;
 
 import configuration.Config;
+import configuration.TargetConfig;
+import java.util.LinkedHashMap;
+import java.util.function.BiFunction;
 
 public class TargetFactory {
 
-    public static ITarget create(TargetRetryPolicy targetRetryPolicy) {
-        return Config.SENDING_PROTOCOL.equals("grpc") ? new GrpcTarget(targetRetryPolicy)
-            : new HttpTarget(targetRetryPolicy);
+    public static ITarget create(BiFunction<TargetConfig, TargetCircuitBreaker, TargetRetryPolicy> retryPolicy) {
+        if (Config.TARGET_ROUTES.isEmpty()) {
+            return create(Config.TARGETS.get("default"), retryPolicy);
+        }
+        var targets = new LinkedHashMap<String, ITarget>();
+        for (var targetConfig : Config.TARGETS.values()) {
+            targets.put(targetConfig.name, create(targetConfig, retryPolicy));
+        }
+        return new TargetRouter(targets, Config.TARGET_ROUTES);
+    }
+
+    private static ITarget create(
+        TargetConfig targetConfig,
+        BiFunction<TargetConfig, TargetCircuitBreaker, TargetRetryPolicy> retryPolicy
+    ) {
+        var circuitBreaker = Config.CIRCUIT_BREAKER_FAILURE_THRESHOLD == 0
+            ? null
+            : new TargetCircuitBreaker(targetConfig.name);
+        var target = createTarget(targetConfig, retryPolicy.apply(targetConfig, circuitBreaker));
+        if (circuitBreaker != null) {
+            circuitBreaker.setTarget(target);
+        }
+        return target;
+    }
+
+    private static ITarget createTarget(TargetConfig targetConfig, TargetRetryPolicy targetRetryPolicy) {
+        var concurrencyLimiter = new ConcurrencyLimiter(targetConfig);
+        if (targetConfig.sendingProtocol.equals("grpc-stream")) {
+            return new GrpcStreamTarget(targetConfig, targetRetryPolicy, concurrencyLimiter);
+        }
+        return targetConfig.sendingProtocol.equals("grpc")
+            ? new GrpcTarget(targetConfig, targetRetryPolicy, concurrencyLimiter)
+            : new HttpTarget(targetConfig, targetRetryPolicy, concurrencyLimiter);
     }
 }
@@ -9,7 +9,7 @@ import java.net.URI;
 import monitoring.Monitor;
 
 public class TargetIsAlive {
-    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final HttpClient client = HttpClients.newBuilder().build();
 
     public String getEndpoint() {
         return Config.TARGET_IS_ALIVE_HTTP_ENDPOINT;
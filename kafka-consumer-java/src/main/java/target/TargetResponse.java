@@ -3,11 +3,19 @@ package target;
 import java.util.OptionalLong;
 
 public class TargetResponse {
+    public int statusCode;
     public OptionalLong callLatency;
     public OptionalLong resultLatency;
+    public OptionalLong retryAfter;
 
-    TargetResponse(OptionalLong callLatency, OptionalLong resultLatency) {
+    TargetResponse(int statusCode, OptionalLong callLatency, OptionalLong resultLatency) {
+        this(statusCode, callLatency, resultLatency, OptionalLong.empty());
+    }
+
+    TargetResponse(int statusCode, OptionalLong callLatency, OptionalLong resultLatency, OptionalLong retryAfter) {
+        this.statusCode = statusCode;
         this.callLatency = callLatency;
         this.resultLatency = resultLatency;
+        this.retryAfter = retryAfter;
     }
 }
@@ -1,12 +1,20 @@
 package target;
 
 import configuration.Config;
+import configuration.StatusCodeAction;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.Date;
-import java.util.function.ToIntFunction;
+import java.util.List;
 import java.util.Optional;
 import kafka.Producer;
+import kafka.RetryStore;
 import monitoring.Monitor;
+import net.jodah.failsafe.ExecutionContext;
+import net.jodah.failsafe.Failsafe;
+import net.jodah.failsafe.function.ContextualSupplier;
 import net.jodah.failsafe.RetryPolicy;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
@@ -14,64 +22,190 @@ public class TargetRetryPolicy {
     private Producer producer;
     private String retryTopic;
     private String deadLetterTopic;
+    private final RetryScheduler retryScheduler;
+    private final RetryStore retryStore;
+    private final TargetCircuitBreaker circuitBreaker;
+    private final BackpressureController backpressure;
+    private final RetryPolicy<TargetResponse> retryPolicy;
 
-    public TargetRetryPolicy(Producer producer, String retryTopic, String deadLetterTopic) {
+    public TargetRetryPolicy(
+        Producer producer,
+        String retryTopic,
+        String deadLetterTopic,
+        RetryScheduler retryScheduler,
+        RetryStore retryStore
+    ) {
+        this(
+            producer,
+            retryTopic,
+            deadLetterTopic,
+            retryScheduler,
+            retryStore,
+            Config.RETRY_POLICY_EXPONENTIAL_BACKOFF,
+            null,
+            null
+        );
+    }
+
+    public TargetRetryPolicy(
+        Producer producer,
+        String retryTopic,
+        String deadLetterTopic,
+        RetryScheduler retryScheduler,
+        RetryStore retryStore,
+        List<Integer> exponentialBackoff,
+        TargetCircuitBreaker circuitBreaker,
+        BackpressureController backpressure
+    ) {
         this.producer = producer;
         this.retryTopic = retryTopic;
         this.deadLetterTopic = deadLetterTopic;
+        this.retryScheduler = retryScheduler;
+        this.retryStore = retryStore;
+        this.circuitBreaker = circuitBreaker;
+        this.backpressure = backpressure;
+
+        var delay = exponentialBackoff.get(0);
+        var maxDelay = exponentialBackoff.get(1);
+        var delayFactor = exponentialBackoff.get(2);
+        this.retryPolicy =
+            new RetryPolicy<TargetResponse>()
+                .withBackoff(delay, maxDelay, ChronoUnit.MILLIS, delayFactor)
+                .handleResultIf(r -> StatusCodeAction.of(r.statusCode) == StatusCodeAction.RETRY);
     }
 
-    public <T> RetryPolicy<T> get(ConsumerRecord<String, String> record, final ToIntFunction<T> getStatusCode) {
+    public CompletableFuture<TargetResponse> execute(
+        ConsumerRecord<String, byte[]> record,
+        ContextualSupplier<CompletionStage<TargetResponse>> call
+    ) {
         var executionStart = new Date().getTime();
-        var delay = Config.RETRY_POLICY_EXPONENTIAL_BACKOFF.get(0);
-        var maxDelay = Config.RETRY_POLICY_EXPONENTIAL_BACKOFF.get(1);
-        var delayFactor = Config.RETRY_POLICY_EXPONENTIAL_BACKOFF.get(2);
-
-        return new RetryPolicy<T>()
-            .withBackoff(delay, maxDelay, ChronoUnit.MILLIS, delayFactor)
-            .handleResultIf(
-                r -> String.valueOf(getStatusCode.applyAsInt(r)).matches(Config.RETRY_PROCESS_WHEN_STATUS_CODE_MATCH)
-            )
-            .onSuccess(
-                x -> {
-                    var statusCode = String.valueOf(getStatusCode.applyAsInt(x.getResult()));
-
-                    if (statusCode.matches(Config.PRODUCE_TO_RETRY_TOPIC_WHEN_STATUS_CODE_MATCH)) {
-                        Monitor.processMessageError();
-                        if (retryTopic != null) {
-                            producer.produce(retryTopic, record);
-                            Monitor.retryProduced(record);
-                            return;
+        final ContextualSupplier<CompletionStage<TargetResponse>> completionStageContextualSupplier =
+            context -> attempt(context, call, 0)
+                .whenComplete(
+                    (response, exception) -> {
+                        if (
+                            exception != null || StatusCodeAction.of(response.statusCode) == StatusCodeAction.RETRY
+                        ) {
+                            Monitor.targetExecutionRetry(
+                                record,
+                                Optional.ofNullable(response).map(r -> String.valueOf(r.statusCode)),
+                                exception,
+                                context.getAttemptCount() + 1
+                            );
+                            if (context.getAttemptCount() + 1 < retryPolicy.getMaxAttempts()) {
+                                retryScheduler.backingOff(record);
+                            }
                         }
                     }
+                );
 
-                    if (statusCode.matches(Config.PRODUCE_TO_DEAD_LETTER_TOPIC_WHEN_STATUS_CODE_MATCH)) {
-                        Monitor.processMessageError();
-                        if (deadLetterTopic != null) {
-                            producer.produce(deadLetterTopic, record);
-                            Monitor.deadLetterProcdued(record);
-                        }
-                        return;
-                    }
+        return Failsafe
+            .with(retryPolicy)
+            .with(retryScheduler.scheduler())
+            .onSuccess(x -> onSuccess(record, x.getResult(), executionStart))
+            .onFailure(__ -> retry(record))
+            .getStageAsync(completionStageContextualSupplier);
+    }
 
-                    Monitor.processMessageSuccess(executionStart);
-                }
-            )
-            .onFailedAttempt(
-                x -> Monitor.targetExecutionRetry(
-                    record,
-                    Optional.<String>ofNullable(String.valueOf(getStatusCode.applyAsInt(x.getLastResult()))),
-                    x.getLastFailure(),
-                    x.getAttemptCount()
-                )
+    private CompletionStage<TargetResponse> attempt(
+        ExecutionContext context,
+        ContextualSupplier<CompletionStage<TargetResponse>> call,
+        int resends
+    )
+        throws Exception {
+        if (circuitBreaker == null && backpressure == null) {
+            return call.get(context);
+        }
+        return whenAvailable()
+            .thenCompose(
+                __ -> send(context, call)
+                    .handle(
+                        (response, exception) -> {
+                            if (backpressure != null) {
+                                var period = BackpressureController.period(response, exception);
+                                if (period.isPresent()) {
+                                    backpressure.signal(period.getAsLong());
+                                }
+                                backpressure.release();
+                                if (period.isPresent() && resends < Config.BACKPRESSURE_MAX_RESENDS) {
+                                    return backpressure
+                                        .afterPeriod()
+                                        .thenCompose(___ -> reattempt(context, call, resends + 1));
+                                }
+                            }
+                            var failed =
+                                exception != null || StatusCodeAction.of(response.statusCode) == StatusCodeAction.RETRY;
+                            if (circuitBreaker != null) {
+                                circuitBreaker.record(failed);
+                                if (failed && circuitBreaker.isOpen()) {
+                                    return reattempt(context, call, resends);
+                                }
+                            }
+                            return exception == null ? CompletableFuture.completedFuture(response)
+                                : CompletableFuture.<TargetResponse>failedFuture(
+                                    exception instanceof CompletionException ? exception.getCause() : exception
+                                );
+                        }
+                    )
             )
-            .onRetriesExceeded(
-                __ -> {
-                    if (retryTopic != null) {
-                        producer.produce(retryTopic, record);
-                        Monitor.retryProduced(record);
-                    }
+            .thenCompose(response -> response);
+    }
+
+    private CompletableFuture<Void> whenAvailable() {
+        var closed = circuitBreaker == null
+            ? CompletableFuture.<Void>completedFuture(null)
+            : circuitBreaker.whenClosed();
+        return backpressure == null ? closed : closed.thenCompose(__ -> backpressure.acquire());
+    }
+
+    private CompletionStage<TargetResponse> send(
+        ExecutionContext context,
+        ContextualSupplier<CompletionStage<TargetResponse>> call
+    ) {
+        try {
+            return call.get(context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletionStage<TargetResponse> reattempt(
+        ExecutionContext context,
+        ContextualSupplier<CompletionStage<TargetResponse>> call,
+        int resends
+    ) {
+        try {
+            return attempt(context, call, resends);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void onSuccess(ConsumerRecord<String, byte[]> record, TargetResponse response, long executionStart) {
+        switch (StatusCodeAction.of(response.statusCode)) {
+            case PRODUCE_TO_RETRY_TOPIC:
+                Monitor.processMessageError();
+                retry(record);
+                return;
+            case PRODUCE_TO_DEAD_LETTER_TOPIC:
+                Monitor.processMessageError();
+                if (deadLetterTopic != null) {
+                    producer.produce(deadLetterTopic, record);
+                    Monitor.deadLetterProcdued(record);
                 }
-            );
+                return;
+            default:
+                Monitor.processMessageSuccess(executionStart);
+        }
+    }
+
+    private void retry(ConsumerRecord<String, byte[]> record) {
+        if (retryStore != null && retryStore.store(record)) {
+            return;
+        }
+        if (retryTopic != null) {
+            producer.produce(retryTopic, record);
+            Monitor.retryProduced(record);
+        }
     }
 }
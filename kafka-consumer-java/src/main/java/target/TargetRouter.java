@@ -0,0 +1,86 @@
+package target;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public class TargetRouter implements ITarget {
+    private final Map<String, ITarget> targets;
+    private final ITarget defaultTarget;
+    private final Map<String, ITarget> topicRoutes = new HashMap<>();
+    private final Map<String, Map<String, ITarget>> headerRoutes = new LinkedHashMap<>();
+
+    public TargetRouter(final Map<String, ITarget> targets, final Map<String, String> routes) {
+        this.targets = targets;
+        this.defaultTarget = targets.get("default");
+        routes.forEach(
+            (selector, name) -> {
+                var parts = selector.split(":", 3);
+                if (parts[0].equals("topic")) {
+                    topicRoutes.put(parts[1], targets.get(name));
+                } else {
+                    headerRoutes.computeIfAbsent(parts[1], __ -> new HashMap<>()).put(parts[2], targets.get(name));
+                }
+            }
+        );
+    }
+
+    public CompletableFuture<TargetResponse> call(final ConsumerRecord<String, byte[]> record) {
+        return route(record).call(record);
+    }
+
+    public List<CompletableFuture<TargetResponse>> callBatch(final List<ConsumerRecord<String, byte[]>> records) {
+        var batches = new LinkedHashMap<ITarget, List<Integer>>();
+        for (var i = 0; i < records.size(); i++) {
+            batches.computeIfAbsent(route(records.get(i)), __ -> new ArrayList<>()).add(i);
+        }
+        if (batches.size() == 1) {
+            return batches.keySet().iterator().next().callBatch(records);
+        }
+
+        var responses = new ArrayList<CompletableFuture<TargetResponse>>(records.size());
+        for (var i = 0; i < records.size(); i++) {
+            responses.add(null);
+        }
+        batches.forEach(
+            (target, indexes) -> {
+                var batch = new ArrayList<ConsumerRecord<String, byte[]>>(indexes.size());
+                indexes.forEach(index -> batch.add(records.get(index)));
+                var batchResponses = target.callBatch(batch);
+                for (var i = 0; i < indexes.size(); i++) {
+                    responses.set(indexes.get(i), batchResponses.get(i));
+                }
+            }
+        );
+        return responses;
+    }
+
+    public CompletableFuture<Void> warmUp() {
+        return CompletableFuture.allOf(
+            targets.values().stream().map(ITarget::warmUp).toArray(CompletableFuture[]::new)
+        );
+    }
+
+    public CompletableFuture<Boolean> checkHealth() {
+        return defaultTarget.checkHealth();
+    }
+
+    private ITarget route(final ConsumerRecord<String, byte[]> record) {
+        for (var headerRoute : headerRoutes.entrySet()) {
+            var header = record.headers().lastHeader(headerRoute.getKey());
+            if (header == null || header.value() == null) {
+                continue;
+            }
+            var target = headerRoute.getValue().get(new String(header.value(), StandardCharsets.UTF_8));
+            if (target != null) {
+                return target;
+            }
+        }
+        return topicRoutes.getOrDefault(getOriginalTopic(record), defaultTarget);
+    }
+}
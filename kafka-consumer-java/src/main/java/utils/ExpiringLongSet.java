@@ -0,0 +1,100 @@
+package utils;
+
+import java.util.Arrays;
+
+public class ExpiringLongSet {
+    private static final long EMPTY = 0L;
+    private static final long ZERO = 0x9E3779B97F4A7C15L;
+
+    private final int generationSize;
+    private final long generationNanos;
+    private long[] current;
+    private long[] previous;
+    private int currentSize;
+    private int previousSize;
+    private long generationStart = System.nanoTime();
+
+    public ExpiringLongSet(int maxSize, long ttlMs) {
+        this.generationSize = Math.max(1, maxSize / 2);
+        this.generationNanos = Math.max(1, ttlMs / 2) * 1_000_000L;
+        var capacity = Integer.highestOneBit(Math.max(2, generationSize * 2 - 1)) << 1;
+        this.current = new long[capacity];
+        this.previous = new long[capacity];
+    }
+
+    public synchronized boolean contains(long value) {
+        expire();
+        var key = value == EMPTY ? ZERO : value;
+        return contains(current, key) || contains(previous, key);
+    }
+
+    public synchronized void add(long value) {
+        expire();
+        var key = value == EMPTY ? ZERO : value;
+        if (contains(previous, key)) {
+            return;
+        }
+        if (currentSize >= generationSize) {
+            rotate();
+        }
+        if (insert(current, key)) {
+            currentSize++;
+        }
+    }
+
+    public synchronized int size() {
+        expire();
+        return currentSize + previousSize;
+    }
+
+    private void expire() {
+        var elapsed = System.nanoTime() - generationStart;
+        if (elapsed >= generationNanos * 2) {
+            Arrays.fill(current, EMPTY);
+            Arrays.fill(previous, EMPTY);
+            currentSize = 0;
+            previousSize = 0;
+            generationStart = System.nanoTime();
+        } else if (elapsed >= generationNanos) {
+            rotate();
+        }
+    }
+
+    private void rotate() {
+        var cleared = previous;
+        Arrays.fill(cleared, EMPTY);
+        previous = current;
+        current = cleared;
+        previousSize = currentSize;
+        currentSize = 0;
+        generationStart = System.nanoTime();
+    }
+
+    private static boolean contains(long[] table, long key) {
+        var mask = table.length - 1;
+        for (var index = mix(key) & mask; table[index] != EMPTY; index = (index + 1) & mask) {
+            if (table[index] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean insert(long[] table, long key) {
+        var mask = table.length - 1;
+        var index = mix(key) & mask;
+        for (; table[index] != EMPTY; index = (index + 1) & mask) {
+            if (table[index] == key) {
+                return false;
+            }
+        }
+        table[index] = key;
+        return true;
+    }
+
+    private static int mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        key = (key ^ (key >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (key ^ (key >>> 33));
+    }
+}
@@ -0,0 +1,106 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import net.jodah.failsafe.util.concurrent.Scheduler;
+
+public class HashedTimerWheel implements Scheduler {
+    private final long tickNanos;
+    private final List<ArrayDeque<Timeout>> buckets;
+    private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final long startTime = System.nanoTime();
+    private long tick;
+
+    public HashedTimerWheel(String name, long tickMs, int size, Executor executor) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        this.buckets = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.executor = executor;
+
+        var worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Callable<?> callable, long delay, TimeUnit unit) {
+        var timeout = new Timeout(callable, System.nanoTime() + unit.toNanos(delay));
+        if (delay <= 0) {
+            executor.execute(timeout);
+        } else {
+            scheduled.add(timeout);
+        }
+        return timeout;
+    }
+
+    private void run() {
+        while (true) {
+            var deadline = startTime + (tick + 1) * tickNanos;
+            for (var now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+                LockSupport.parkNanos(deadline - now);
+            }
+            transferScheduled();
+            expire(buckets.get((int) (tick % buckets.size())));
+            tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        for (var timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            var ticks = Math.max(tick, (timeout.deadline - startTime) / tickNanos);
+            timeout.rounds = (ticks - tick) / buckets.size();
+            buckets.get((int) (ticks % buckets.size())).add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket) {
+        for (var i = bucket.size(); i > 0; i--) {
+            var timeout = bucket.poll();
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.add(timeout);
+            } else {
+                executor.execute(timeout);
+            }
+        }
+    }
+
+    private static class Timeout extends FutureTask<Object> implements ScheduledFuture<Object> {
+        private final long deadline;
+        private long rounds;
+
+        @SuppressWarnings("unchecked")
+        Timeout(Callable<?> callable, long deadline) {
+            super((Callable<Object>) callable);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
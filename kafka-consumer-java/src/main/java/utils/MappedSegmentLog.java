@@ -0,0 +1,185 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class MappedSegmentLog {
+    private static final String SUFFIX = ".segment";
+    private static final int HEADER_BYTES = 5;
+    private static final byte PENDING = 1;
+    private static final byte COMPLETED = 2;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final List<Entry> recovered = new ArrayList<>();
+    private Segment active;
+    private long pendingBytes;
+
+    public MappedSegmentLog(Path directory, int segmentBytes, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = (int) Math.max(1, maxBytes / segmentBytes);
+
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (var list = Files.list(directory)) {
+            files =
+                list
+                    .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (var file : files) {
+            var name = file.getFileName().toString();
+            var segment = new Segment(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+            segment.recover(recovered);
+            segments.put(segment.id, segment);
+            active = segment;
+        }
+        for (var segment : new ArrayList<>(segments.values())) {
+            if (segment != active) {
+                segment.seal();
+            }
+        }
+        if (active == null) {
+            active = openSegment(0);
+        }
+    }
+
+    public synchronized List<Entry> recovered() {
+        var entries = new ArrayList<>(recovered);
+        recovered.clear();
+        return entries;
+    }
+
+    public synchronized Entry append(byte[] payload) throws IOException {
+        var size = HEADER_BYTES + payload.length;
+        if (size > segmentBytes) {
+            return null;
+        }
+        if (active.position + size > segmentBytes) {
+            if (segments.size() >= maxSegments && active.pending > 0) {
+                return null;
+            }
+            var sealed = active;
+            active = openSegment(sealed.id + 1);
+            sealed.seal();
+        }
+        return active.append(payload);
+    }
+
+    public synchronized byte[] read(Entry entry) {
+        var payload = new byte[entry.length];
+        entry.segment.buffer.duplicate().position(entry.position + HEADER_BYTES).get(payload);
+        return payload;
+    }
+
+    public synchronized void complete(Entry entry) {
+        entry.segment.complete(entry);
+    }
+
+    public synchronized long pendingBytes() {
+        return pendingBytes;
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        var segment = new Segment(id);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    public static class Entry {
+        private final Segment segment;
+        private final int position;
+        private final int length;
+
+        private Entry(Segment segment, int position, int length) {
+            this.segment = segment;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    private class Segment {
+        private final long id;
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private int pending;
+        private boolean sealed;
+
+        Segment(long id) throws IOException {
+            this.id = id;
+            this.file = directory.resolve(String.format("%020d%s", id, SUFFIX));
+            try (
+                var channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            }
+        }
+
+        void recover(List<Entry> entries) {
+            while (position + HEADER_BYTES <= segmentBytes) {
+                var length = buffer.getInt(position);
+                if (length <= 0 || position + HEADER_BYTES + length > segmentBytes) {
+                    break;
+                }
+                if (buffer.get(position + 4) == PENDING) {
+                    entries.add(new Entry(this, position, length));
+                    pending++;
+                    pendingBytes += length;
+                }
+                position += HEADER_BYTES + length;
+            }
+        }
+
+        Entry append(byte[] payload) {
+            var entry = new Entry(this, position, payload.length);
+            buffer.put(position + 4, PENDING);
+            buffer.duplicate().position(position + HEADER_BYTES).put(payload);
+            buffer.putInt(position, payload.length);
+            buffer.force();
+            position += HEADER_BYTES + payload.length;
+            pending++;
+            pendingBytes += payload.length;
+            return entry;
+        }
+
+        void complete(Entry entry) {
+            buffer.put(entry.position + 4, COMPLETED);
+            pending--;
+            pendingBytes -= entry.length;
+            deleteIfDone();
+        }
+
+        void seal() {
+            sealed = true;
+            deleteIfDone();
+        }
+
+        private void deleteIfDone() {
+            if (!sealed || pending > 0) {
+                return;
+            }
+            segments.remove(id);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {}
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucket {
+    private double tokensPerNano;
+    private double capacity;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public TokenBucket(double tokensPerSecond, long burstMs) {
+        setRate(tokensPerSecond, burstMs);
+        tokens = capacity;
+    }
+
+    public synchronized void setRate(double tokensPerSecond, long burstMs) {
+        refill();
+        tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        capacity = Math.max(1, tokensPerSecond * burstMs / 1000);
+        tokens = Math.min(tokens, capacity);
+    }
+
+    public synchronized double getRate() {
+        return tokensPerNano * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public synchronized long reserve(long permits) {
+        if (tokensPerNano <= 0) {
+            return 0;
+        }
+        refill();
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    private void refill() {
+        var now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,66 @@
+package configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConfigTest {
+
+    @Test
+    void rejectsCircuitBreakerWithoutIsAliveEndpointOnDefaultTarget() {
+        assertThrows(Exception.class, () -> TestEnvironment.init(Map.of("CIRCUIT_BREAKER_FAILURE_THRESHOLD", "5")));
+    }
+
+    @Test
+    void rejectsCircuitBreakerWithoutIsAliveEndpointOnNamedTarget() {
+        assertThrows(
+            Exception.class,
+            () -> TestEnvironment.init(
+                Map.of(
+                    "CIRCUIT_BREAKER_FAILURE_THRESHOLD",
+                    "5",
+                    "TARGET_IS_ALIVE_HTTP_ENDPOINT",
+                    "localhost:2000/isAlive",
+                    "TARGETS",
+                    "audit",
+                    "TARGET_AUDIT",
+                    "audit:2000/consume"
+                )
+            )
+        );
+    }
+
+    @Test
+    void acceptsCircuitBreakerWithIsAliveEndpoint() throws Exception {
+        TestEnvironment.init(
+            Map.of("CIRCUIT_BREAKER_FAILURE_THRESHOLD", "5", "TARGET_IS_ALIVE_HTTP_ENDPOINT", "localhost:2000/isAlive")
+        );
+
+        assertEquals("localhost:2000/isAlive", Config.TARGETS.get("default").isAliveEndpoint);
+    }
+
+    @Test
+    void rejectsDnsOverHttpsOnDefaultTarget() {
+        assertThrows(
+            Exception.class,
+            () -> TestEnvironment.init(Map.of("SENDING_PROTOCOL", "https", "TARGET", "dns:///target:2000/consume"))
+        );
+    }
+
+    @Test
+    void rejectsGrpcDefaultTargetWithoutPort() {
+        assertThrows(
+            Exception.class,
+            () -> TestEnvironment.init(Map.of("SENDING_PROTOCOL", "grpc", "TARGET", "target/consume"))
+        );
+    }
+
+    @Test
+    void acceptsGrpcDefaultTargetWithIpv6Address() throws Exception {
+        TestEnvironment.init(Map.of("SENDING_PROTOCOL", "grpc", "TARGET", "[::1]:6000"));
+
+        assertEquals("[::1]:6000", Config.TARGETS.get("default").target);
+    }
+}
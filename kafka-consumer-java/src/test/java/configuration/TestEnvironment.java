@@ -0,0 +1,37 @@
+package configuration;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import java.util.HashMap;
+import java.util.Map;
+import monitoring.Monitor;
+
+public class TestEnvironment {
+    private static boolean monitoring;
+
+    public static void init() throws Exception {
+        init(Map.of());
+    }
+
+    public static synchronized void init(Map<String, String> overrides) throws Exception {
+        var env = new HashMap<String, String>();
+        env.put("KAFKA_BROKER", "localhost:9092");
+        env.put("TOPICS", "topic");
+        env.put("GROUP_ID", "group");
+        env.put("SENDING_PROTOCOL", "http");
+        env.put("TARGET", "localhost:2000/consume");
+        env.putAll(overrides);
+        Config.init(
+            new Dotenv() {
+
+                @Override
+                public String get(String name) {
+                    return env.get(name);
+                }
+            }
+        );
+        if (!monitoring) {
+            Monitor.init();
+            monitoring = true;
+        }
+    }
+}
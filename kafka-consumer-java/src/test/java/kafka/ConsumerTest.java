@@ -0,0 +1,229 @@
+package kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import configuration.TestEnvironment;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import target.ITarget;
+import target.RetryScheduler;
+import target.TargetResponse;
+import target.TargetResponses;
+import target.TargetRetryPolicy;
+
+class ConsumerTest {
+    private static final TopicPartition SLOW = new TopicPartition("topic", 0);
+    private static final TopicPartition FAST = new TopicPartition("topic", 1);
+
+    private final MockConsumer<String, byte[]> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final SlowPartitionTarget target = new SlowPartitionTarget();
+    private Disposable subscription;
+
+    @AfterEach
+    void dispose() {
+        target.releaseSlow();
+        subscription.dispose();
+    }
+
+    @Test
+    void slowPartitionDoesNotStallFastPartition() throws Exception {
+        TestEnvironment.init(
+            Map.of("PROCESSING_MODE", "stream", "MAX_IN_FLIGHT_PER_PARTITION", "20", "POLL_TIMEOUT", "10")
+        );
+        mockConsumer.schedulePollTask(
+            () -> {
+                mockConsumer.rebalance(List.of(SLOW, FAST));
+                mockConsumer.updateBeginningOffsets(Map.of(SLOW, 0L, FAST, 0L));
+                addRecords(SLOW, 300);
+            }
+        );
+        mockConsumer.schedulePollTask(() -> addRecords(FAST, 600));
+
+        subscription = consumer().stream().subscribe();
+
+        target.fastDone.get(10, TimeUnit.SECONDS);
+        assertEquals(1, target.slowCalls.get());
+        target.releaseSlow();
+        waitUntil(() -> target.slowCalls.get() == 300);
+    }
+
+    @Test
+    void pausesOnlyPartitionsOverTheirWatermark() throws Exception {
+        TestEnvironment.init(
+            Map.of("PROCESSING_MODE", "stream", "MAX_IN_FLIGHT_PER_PARTITION", "20", "POLL_TIMEOUT", "10")
+        );
+        mockConsumer.schedulePollTask(
+            () -> {
+                mockConsumer.rebalance(List.of(SLOW, FAST));
+                mockConsumer.updateBeginningOffsets(Map.of(SLOW, 0L, FAST, 0L));
+                addRecords(SLOW, 300);
+                addRecords(FAST, 600);
+            }
+        );
+
+        subscription = consumer().stream().subscribe();
+
+        target.fastDone.get(10, TimeUnit.SECONDS);
+        waitUntil(() -> mockConsumer.paused().equals(Set.of(SLOW)));
+        Thread.sleep(100);
+        assertEquals(Set.of(SLOW), mockConsumer.paused());
+    }
+
+    @Test
+    void parkedFailureCompletesRecordWithoutTerminatingStream() throws Exception {
+        TestEnvironment.init(
+            Map.of(
+                "PROCESSING_MODE",
+                "stream",
+                "ORDERING_MODE",
+                "key",
+                "ORDERING_KEY_SLOTS",
+                "1",
+                "POLL_TIMEOUT",
+                "10",
+                "COMMIT_INTERVAL",
+                "10",
+                "RETRY_POLICY_EXPONENTIAL_BACKOFF",
+                "10,20,2"
+            )
+        );
+        var retryScheduler = new RetryScheduler();
+        var target = new FailingRecordTarget(retryScheduler);
+        mockConsumer.schedulePollTask(
+            () -> {
+                mockConsumer.rebalance(List.of(SLOW));
+                mockConsumer.updateBeginningOffsets(Map.of(SLOW, 0L));
+                addRecord(SLOW, 0, "parked");
+                addRecord(SLOW, 1, "parked");
+                addRecord(SLOW, 2, "other");
+            }
+        );
+        var error = new CompletableFuture<Throwable>();
+
+        subscription = consumer(target, retryScheduler).stream().subscribe(__ -> {}, error::complete);
+
+        waitUntil(
+            () -> mockConsumer.committed(Set.of(SLOW)).get(SLOW) != null &&
+            mockConsumer.committed(Set.of(SLOW)).get(SLOW).offset() == 3
+        );
+        var calls = List.copyOf(target.calls);
+        assertEquals(3, calls.stream().filter(offset -> offset == 0).count());
+        assertTrue(calls.indexOf(2L) < calls.lastIndexOf(0L));
+        assertTrue(calls.indexOf(1L) > calls.lastIndexOf(0L));
+        assertFalse(error.isDone());
+    }
+
+    private Consumer consumer() {
+        return consumer(target, new RetryScheduler());
+    }
+
+    private Consumer consumer(ITarget target, RetryScheduler retryScheduler) {
+        var kafkaConsumer = new ReactiveKafkaClient<String, byte[]>(
+            mockConsumer,
+            List.of("topic"),
+            new ConsumerRebalanceListener() {
+
+                @Override
+                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {}
+
+                @Override
+                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {}
+            }
+        );
+        return new Consumer(kafkaConsumer, target, new RateLimiter(), retryScheduler, null, null);
+    }
+
+    private void addRecords(TopicPartition partition, int count) {
+        for (var offset = 0; offset < count; offset++) {
+            mockConsumer.addRecord(
+                new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", new byte[0])
+            );
+        }
+    }
+
+    private void addRecord(TopicPartition partition, long offset, String key) {
+        mockConsumer.addRecord(
+            new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key, new byte[0])
+        );
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static class FailingRecordTarget implements ITarget {
+        private final TargetRetryPolicy retryPolicy;
+        private final ConcurrentLinkedQueue<Long> calls = new ConcurrentLinkedQueue<>();
+
+        FailingRecordTarget(RetryScheduler retryScheduler) {
+            this.retryPolicy = new TargetRetryPolicy(null, null, null, retryScheduler, null);
+        }
+
+        @Override
+        public CompletableFuture<TargetResponse> call(ConsumerRecord<String, byte[]> record) {
+            return retryPolicy.execute(
+                record,
+                __ -> {
+                    calls.add(record.offset());
+                    return record.offset() == 0
+                        ? CompletableFuture.failedFuture(new IllegalStateException("target failed"))
+                        : CompletableFuture.completedFuture(TargetResponses.of(200));
+                }
+            );
+        }
+
+        @Override
+        public List<CompletableFuture<TargetResponse>> callBatch(List<ConsumerRecord<String, byte[]>> records) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class SlowPartitionTarget implements ITarget {
+        private final CompletableFuture<Void> slowReleased = new CompletableFuture<>();
+        private final CompletableFuture<Void> fastDone = new CompletableFuture<>();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        private final AtomicInteger fastCalls = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<TargetResponse> call(ConsumerRecord<String, byte[]> record) {
+            if (record.partition() == FAST.partition()) {
+                if (fastCalls.incrementAndGet() == 600) {
+                    fastDone.complete(null);
+                }
+                return CompletableFuture.completedFuture(TargetResponses.of(200));
+            }
+            slowCalls.incrementAndGet();
+            return slowReleased.thenApply(__ -> TargetResponses.of(200));
+        }
+
+        @Override
+        public List<CompletableFuture<TargetResponse>> callBatch(List<ConsumerRecord<String, byte[]>> records) {
+            throw new UnsupportedOperationException();
+        }
+
+        void releaseSlow() {
+            slowReleased.complete(null);
+        }
+    }
+}
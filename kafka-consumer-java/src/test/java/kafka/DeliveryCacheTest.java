@@ -0,0 +1,57 @@
+package kafka;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import configuration.TestEnvironment;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+class DeliveryCacheTest {
+
+    @Test
+    void dedupsByOffsetByDefault() throws Exception {
+        TestEnvironment.init();
+        var cache = new DeliveryCache();
+
+        cache.delivered(record(0, 1, "key"));
+
+        assertTrue(cache.isDelivered(record(0, 1, "key")));
+        assertFalse(cache.isDelivered(record(0, 2, "key")));
+        assertFalse(cache.isDelivered(record(1, 1, "key")));
+    }
+
+    @Test
+    void dedupsByHeader() throws Exception {
+        TestEnvironment.init(Map.of("DEDUP_CACHE", "header"));
+        var cache = new DeliveryCache();
+        var delivered = record(0, 1, "key");
+        delivered.headers().add("idempotency-key", "id".getBytes(StandardCharsets.UTF_8));
+        var redelivered = record(0, 2, "other");
+        redelivered.headers().add("idempotency-key", "id".getBytes(StandardCharsets.UTF_8));
+
+        cache.delivered(delivered);
+        cache.delivered(record(0, 3, "key"));
+
+        assertTrue(cache.isDelivered(redelivered));
+        assertFalse(cache.isDelivered(record(0, 3, "key")));
+    }
+
+    @Test
+    void dedupsByKeyWhenOptedIn() throws Exception {
+        TestEnvironment.init(Map.of("DEDUP_CACHE", "key"));
+        var cache = new DeliveryCache();
+
+        cache.delivered(record(0, 1, "key"));
+        cache.delivered(record(0, 2, null));
+
+        assertTrue(cache.isDelivered(record(1, 5, "key")));
+        assertFalse(cache.isDelivered(record(0, 2, null)));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(int partition, long offset, String key) {
+        return new ConsumerRecord<>("topic", partition, offset, key, new byte[0]);
+    }
+}
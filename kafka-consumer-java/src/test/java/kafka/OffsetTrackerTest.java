@@ -0,0 +1,155 @@
+package kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class OffsetTrackerTest {
+    private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+    private static final TopicPartition OTHER = new TopicPartition("topic", 1);
+
+    private final OffsetTracker tracker = new OffsetTracker(8);
+
+    @Test
+    void commitsOnlyContiguousCompletedPrefix() {
+        tracker.track(records(PARTITION, 0, 5));
+
+        complete(PARTITION, 1);
+        complete(PARTITION, 2);
+        assertEquals(Map.of(), tracker.committable());
+
+        complete(PARTITION, 0);
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(3)), tracker.committable());
+    }
+
+    @Test
+    void takesCommittableOffsetOnce() {
+        tracker.track(records(PARTITION, 0, 2));
+        complete(PARTITION, 0);
+
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(1)), tracker.committable());
+        assertEquals(Map.of(), tracker.committable());
+    }
+
+    @Test
+    void wrapsAndGrowsRingBuffer() {
+        var tracker = new OffsetTracker(1000);
+        tracker.track(records(PARTITION, 0, 50));
+        for (var offset = 0; offset < 40; offset++) {
+            complete(tracker, PARTITION, offset);
+        }
+        tracker.track(records(PARTITION, 50, 150));
+
+        for (var offset = 199; offset >= 40; offset--) {
+            complete(tracker, PARTITION, offset);
+        }
+
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(200)), tracker.committable());
+    }
+
+    @Test
+    void reportsPartitionFullOnceAtWindowAndDrainsAtHalfWindow() {
+        assertEquals(List.of(), tracker.track(records(PARTITION, 0, 7)));
+        assertEquals(List.of(PARTITION), tracker.track(records(PARTITION, 7, 1)));
+        assertEquals(List.of(), tracker.track(records(PARTITION, 8, 2)));
+
+        for (var offset = 0; offset < 5; offset++) {
+            assertFalse(tracker.complete(record(PARTITION, offset)));
+        }
+        assertTrue(tracker.complete(record(PARTITION, 5)));
+        assertFalse(tracker.complete(record(PARTITION, 6)));
+    }
+
+    @Test
+    void dispatchesEachTrackedOffsetOnce() {
+        tracker.track(records(PARTITION, 0, 2));
+
+        assertTrue(tracker.dispatch(record(PARTITION, 0)));
+        assertFalse(tracker.dispatch(record(PARTITION, 0)));
+        assertFalse(tracker.dispatch(record(PARTITION, 5)));
+        assertFalse(tracker.dispatch(record(OTHER, 0)));
+        complete(PARTITION, 1);
+        assertFalse(tracker.dispatch(record(PARTITION, 1)));
+    }
+
+    @Test
+    void resetsOnSeekBack() {
+        tracker.track(records(PARTITION, 0, 4));
+        complete(PARTITION, 0);
+
+        tracker.track(records(PARTITION, 0, 2));
+        assertEquals(Map.of(), tracker.committable());
+        assertTrue(tracker.dispatch(record(PARTITION, 0)));
+        complete(PARTITION, 0);
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(1)), tracker.committable());
+    }
+
+    @Test
+    void reportsPartitionFullAgainAfterSeekBack() {
+        assertEquals(List.of(PARTITION), tracker.track(records(PARTITION, 0, 10)));
+
+        assertEquals(List.of(PARTITION), tracker.track(records(PARTITION, 0, 8)));
+    }
+
+    @Test
+    void revokeWaitsForDispatchedRecordsAndStopsDispatching() {
+        tracker.track(records(PARTITION, 0, 3));
+        tracker.dispatch(record(PARTITION, 0));
+
+        var idle = tracker.revoke(Set.of(PARTITION, OTHER));
+
+        assertFalse(idle.isDone());
+        assertFalse(tracker.dispatch(record(PARTITION, 1)));
+        complete(PARTITION, 0);
+        assertTrue(idle.isDone());
+    }
+
+    @Test
+    void revokeCompletesImmediatelyWhenNothingIsRunning() {
+        tracker.track(records(PARTITION, 0, 3));
+
+        assertTrue(tracker.revoke(Set.of(PARTITION)).isDone());
+    }
+
+    @Test
+    void forgetReturnsFinalOffsetsAndDropsPartitions() {
+        tracker.track(records(PARTITION, 0, 3));
+        tracker.track(records(OTHER, 0, 3));
+        complete(PARTITION, 0);
+        complete(PARTITION, 1);
+
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(2)), tracker.forget(Set.of(PARTITION, OTHER)));
+        assertFalse(tracker.dispatch(record(PARTITION, 2)));
+        assertEquals(Map.of(), tracker.committable());
+    }
+
+    private void complete(TopicPartition partition, long offset) {
+        complete(tracker, partition, offset);
+    }
+
+    private static void complete(OffsetTracker tracker, TopicPartition partition, long offset) {
+        tracker.complete(record(partition, offset));
+    }
+
+    private static ConsumerRecords<String, byte[]> records(TopicPartition partition, long from, int count) {
+        var records = new ArrayList<ConsumerRecord<String, byte[]>>();
+        for (var offset = from; offset < from + count; offset++) {
+            records.add(record(partition, offset));
+        }
+        return new ConsumerRecords<>(Map.of(partition, records));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(TopicPartition partition, long offset) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", new byte[0]);
+    }
+}
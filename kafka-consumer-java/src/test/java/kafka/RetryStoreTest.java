@@ -0,0 +1,117 @@
+package kafka;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import configuration.TestEnvironment;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+class RetryStoreTest {
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void init() throws Exception {
+        TestEnvironment.init(
+            Map.of(
+                "RETRY_STORE_DIRECTORY",
+                directory.toString(),
+                "RETRY_STORE_SEGMENT_BYTES",
+                "4096",
+                "RETRY_STORE_BACKOFF",
+                "0,0,1",
+                "RETRY_STORE_MAX_ATTEMPTS",
+                "2",
+                "RETRY_STORE_POLL_INTERVAL",
+                "10"
+            )
+        );
+    }
+
+    @Test
+    void replaysStoredRecord() throws Exception {
+        var headers = new RecordHeaders();
+        headers.add("trace", "abc".getBytes(StandardCharsets.UTF_8));
+        headers.add("empty", null);
+        var record = new ConsumerRecord<String, byte[]>(
+            "topic",
+            3,
+            42,
+            1000,
+            TimestampType.CREATE_TIME,
+            null,
+            3,
+            5,
+            "key",
+            "value".getBytes(StandardCharsets.UTF_8),
+            headers
+        );
+        var store = new RetryStore();
+
+        assertTrue(store.store(record));
+
+        var replayed = replayOne(store);
+        assertEquals("topic", replayed.topic());
+        assertEquals(3, replayed.partition());
+        assertEquals(42, replayed.offset());
+        assertEquals(1000, replayed.timestamp());
+        assertEquals("key", replayed.key());
+        assertArrayEquals("value".getBytes(StandardCharsets.UTF_8), replayed.value());
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), replayed.headers().lastHeader("trace").value());
+        assertNull(replayed.headers().lastHeader("empty").value());
+    }
+
+    @Test
+    void replaysNullKeyAndValue() throws Exception {
+        var store = new RetryStore();
+
+        store.store(new ConsumerRecord<>("topic", 0, 7, null, null));
+
+        var replayed = replayOne(store);
+        assertNull(replayed.key());
+        assertNull(replayed.value());
+    }
+
+    @Test
+    void replaysRecordsStoredBeforeRestart() throws Exception {
+        new RetryStore().store(new ConsumerRecord<>("topic", 0, 7, "key", new byte[0]));
+
+        assertEquals(7, replayOne(new RetryStore()).offset());
+        var remaining = new RetryStore().replay(record -> Mono.just(record)).take(Duration.ofMillis(100)).collectList();
+        assertEquals(List.of(), remaining.block());
+    }
+
+    @Test
+    void stopsStoringAfterMaxAttempts() throws Exception {
+        var store = new RetryStore();
+        store.store(new ConsumerRecord<>("topic", 0, 7, "key", new byte[0]));
+
+        var stored = store
+            .replay(record -> Mono.fromCallable(() -> store.store(record)))
+            .take(2)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(true, false), stored);
+    }
+
+    private static ConsumerRecord<String, byte[]> replayOne(RetryStore store) {
+        var replayed = store.replay(record -> Mono.just(record)).take(1).collectList().block(Duration.ofSeconds(5));
+        @SuppressWarnings("unchecked")
+        var record = (ConsumerRecord<String, byte[]>) replayed.get(0);
+        return record;
+    }
+}
@@ -0,0 +1,78 @@
+package monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import configuration.TestEnvironment;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import kafka.RateLimiter;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import target.HttpClients;
+
+class MonitoringServerTest {
+    private final HttpClient client = HttpClients.newBuilder().build();
+    private MonitoringServer server;
+    private int port;
+
+    @BeforeEach
+    void start() throws Exception {
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        TestEnvironment.init(Map.of("MONITORING_SERVER_PORT", String.valueOf(port)));
+        server = new MonitoringServer(null, new RateLimiter()).start();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    @Test
+    void setsRateLimit() throws Exception {
+        var response = post("recordsPerSecond=50&bytesPerSecond=1000.5");
+
+        assertEquals(200, response.statusCode());
+        var limits = new JSONObject(response.body());
+        assertEquals(50, limits.getDouble("records"));
+        assertEquals(1000.5, limits.getDouble("bytes"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "-1", "NaN", "Infinity", "-Infinity", "abc", "" })
+    void rejectsInvalidRate(String rate) throws Exception {
+        assertEquals(400, post("recordsPerSecond=" + rate).statusCode());
+        assertEquals(400, post("bytesPerSecond=" + rate).statusCode());
+    }
+
+    @Test
+    void appliesNothingWhenAnyRateIsInvalid() throws Exception {
+        assertEquals(400, post("recordsPerSecond=50&bytesPerSecond=-1").statusCode());
+
+        var limits = new JSONObject(get().body());
+        assertEquals(0, limits.getDouble("records"));
+        assertEquals(0, limits.getDouble("bytes"));
+    }
+
+    private HttpResponse<String> post(String query) throws Exception {
+        var request = HttpRequest
+            .newBuilder(URI.create("http://localhost:" + port + "/rateLimit?" + query))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get() throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/rateLimit")).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,64 @@
+package target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import configuration.TestEnvironment;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BackpressureControllerTest {
+    private final BackpressureController backpressure = new BackpressureController();
+
+    @BeforeEach
+    void init() throws Exception {
+        TestEnvironment.init(Map.of("BACKPRESSURE_ENABLED", "true", "BACKPRESSURE_IN_FLIGHT_PERCENT", "50"));
+    }
+
+    @Test
+    void firstSignalCutsInFlightCallsByPercent() {
+        for (var i = 0; i < 10; i++) {
+            assertTrue(backpressure.acquire().isDone());
+        }
+
+        backpressure.signal(60000);
+        for (var i = 0; i < 10; i++) {
+            backpressure.release();
+        }
+
+        assertEquals(5, acquired(6));
+    }
+
+    @Test
+    void admitsWaitersAsCallsComplete() {
+        for (var i = 0; i < 4; i++) {
+            backpressure.acquire();
+        }
+        backpressure.signal(60000);
+
+        var waiter = backpressure.acquire();
+        assertFalse(waiter.isDone());
+        backpressure.release();
+        backpressure.release();
+        assertFalse(waiter.isDone());
+        backpressure.release();
+        assertTrue(waiter.isDone());
+    }
+
+    @Test
+    void doesNotLimitBeforeSignal() {
+        assertEquals(1000, acquired(1000));
+    }
+
+    private int acquired(int calls) {
+        var acquires = new ArrayList<CompletableFuture<Void>>();
+        for (var i = 0; i < calls; i++) {
+            acquires.add(backpressure.acquire());
+        }
+        return (int) acquires.stream().filter(CompletableFuture::isDone).count();
+    }
+}
@@ -0,0 +1,138 @@
+package target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import configuration.Config;
+import configuration.TestEnvironment;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GrpcStreamTargetTest {
+    private Server server;
+
+    @AfterEach
+    void stopServer() {
+        server.shutdownNow();
+    }
+
+    @Test
+    void matchesAcksToRecordsWithTheSameCoordinates() throws Exception {
+        var received = Collections.synchronizedList(new ArrayList<Message.CallTargetPayload>());
+        var target = start(
+            (request, responses) -> {
+                received.add(request);
+                if (received.size() < 2) {
+                    return;
+                }
+                for (var i = received.size() - 1; i >= 0; i--) {
+                    var payload = received.get(i);
+                    responses.onNext(
+                        Message
+                            .CallTargetResponse
+                            .newBuilder()
+                            .setStatusCode(payload.getMsgJson().equals("retried") ? 202 : 200)
+                            .setTopic(payload.getTopic())
+                            .setRecordPartition(payload.getRecordPartition())
+                            .setRecordOffset(payload.getRecordOffset())
+                            .setSequence(payload.getSequence())
+                            .build()
+                    );
+                }
+            },
+            Map.of()
+        );
+        var retried = new ConsumerRecord<>("topic-retry", 0, 5, "key", "retried".getBytes(StandardCharsets.UTF_8));
+        retried.headers().add(new RecordHeader(Config.ORIGINAL_TOPIC, "topic".getBytes(StandardCharsets.UTF_8)));
+        var original = new ConsumerRecord<>("topic", 0, 5, "key", "original".getBytes(StandardCharsets.UTF_8));
+
+        var retriedResponse = target.call(retried);
+        var originalResponse = target.call(original);
+
+        assertEquals(202, retriedResponse.get(5, TimeUnit.SECONDS).statusCode);
+        assertEquals(200, originalResponse.get(5, TimeUnit.SECONDS).statusCode);
+    }
+
+    @Test
+    void failsUnacknowledgedRecordsAfterTimeout() throws Exception {
+        var target = start((request, responses) -> {}, Map.of("TARGET_STREAM_ACK_TIMEOUT", "100"));
+
+        var response = target.call(new ConsumerRecord<>("topic", 0, 0, "key", new byte[0]));
+
+        assertThrows(ExecutionException.class, () -> response.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failsPendingRecordsWhenStreamResets() throws Exception {
+        var target = start(
+            (request, responses) -> responses.onError(Status.UNAVAILABLE.asException()),
+            Map.of("TARGET_STREAM_ACK_TIMEOUT", "0")
+        );
+
+        var response = target.call(new ConsumerRecord<>("topic", 0, 0, "key", new byte[0]));
+
+        assertThrows(ExecutionException.class, () -> response.get(5, TimeUnit.SECONDS));
+    }
+
+    private GrpcStreamTarget start(
+        BiConsumer<Message.CallTargetPayload, StreamObserver<Message.CallTargetResponse>> onRequest,
+        Map<String, String> env
+    )
+        throws Exception {
+        server =
+            ServerBuilder
+                .forPort(0)
+                .addService(
+                    new CallTargetGrpc.CallTargetImplBase() {
+
+                        @Override
+                        public StreamObserver<Message.CallTargetPayload> callTargetStream(
+                            StreamObserver<Message.CallTargetResponse> responses
+                        ) {
+                            return new StreamObserver<>() {
+
+                                @Override
+                                public void onNext(Message.CallTargetPayload request) {
+                                    onRequest.accept(request, responses);
+                                }
+
+                                @Override
+                                public void onError(Throwable error) {}
+
+                                @Override
+                                public void onCompleted() {
+                                    responses.onCompleted();
+                                }
+                            };
+                        }
+                    }
+                )
+                .build()
+                .start();
+        var overrides = new HashMap<>(env);
+        overrides.put("SENDING_PROTOCOL", "grpc-stream");
+        overrides.put("TARGET", "localhost:" + server.getPort());
+        overrides.put("RETRY_POLICY_EXPONENTIAL_BACKOFF", "10,20,2");
+        TestEnvironment.init(overrides);
+        var targetConfig = Config.TARGETS.get("default");
+        return new GrpcStreamTarget(
+            targetConfig,
+            new TargetRetryPolicy(null, null, null, new RetryScheduler(), null),
+            new ConcurrencyLimiter(targetConfig)
+        );
+    }
+}
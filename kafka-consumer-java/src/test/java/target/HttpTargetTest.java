@@ -0,0 +1,88 @@
+package target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import configuration.Config;
+import configuration.TestEnvironment;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpTargetTest {
+    private HttpServer server;
+    private final CompletableFuture<Headers> headers = new CompletableFuture<>();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext(
+            "/consume",
+            exchange -> {
+                headers.complete(exchange.getRequestHeaders());
+                exchange.getRequestBody().readAllBytes();
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            }
+        );
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void keepsOriginalHostForDnsResolvedTargets() throws Exception {
+        var authority = "localhost:" + server.getAddress().getPort();
+        TestEnvironment.init(Map.of("TARGET", "dns:///" + authority + "/consume"));
+        var targetConfig = Config.TARGETS.get("default");
+        var target = new HttpTarget(
+            targetConfig,
+            new TargetRetryPolicy(null, null, null, new RetryScheduler(), null),
+            new ConcurrencyLimiter(targetConfig)
+        );
+
+        var response = target.call(new ConsumerRecord<>("topic", 0, 0, "key", new byte[0])).get();
+
+        assertEquals(200, response.statusCode);
+        assertEquals(authority, headers.get().getFirst("Host"));
+    }
+
+    @Test
+    void forwardsValidNativeHeadersWithLastValueWinning() throws Exception {
+        TestEnvironment.init(
+            Map.of("TARGET", "localhost:" + server.getAddress().getPort() + "/consume", "HEADERS_FORMAT", "native")
+        );
+        var targetConfig = Config.TARGETS.get("default");
+        var target = new HttpTarget(
+            targetConfig,
+            new TargetRetryPolicy(null, null, null, new RetryScheduler(), null),
+            new ConcurrencyLimiter(targetConfig)
+        );
+        var record = new ConsumerRecord<>("topic", 0, 0, "key", new byte[0]);
+        record.headers().add("trace-id", "first".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("trace-id", "last".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("bad name", "value".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("bad-value", "line\nbreak".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("empty", null);
+
+        target.call(record).get();
+
+        var received = headers.get();
+        assertEquals(List.of("last"), received.get("x-record-header-trace-id"));
+        assertEquals("", received.getFirst("x-record-header-empty"));
+        assertNull(received.getFirst("x-record-header-bad-value"));
+        assertTrue(received.keySet().stream().noneMatch(name -> name.toLowerCase().contains("bad name")));
+    }
+}
@@ -0,0 +1,49 @@
+package target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class RecordHeadersEncoderTest {
+
+    @Test
+    void encodesEmptyHeaders() {
+        assertEquals("{}", RecordHeadersEncoder.toJson(new RecordHeaders()));
+        assertEquals("{}", RecordHeadersEncoder.toJson(null));
+    }
+
+    @Test
+    void keepsLastValueOfDuplicateKeys() {
+        var headers = new RecordHeaders();
+        headers.add("id", bytes("first"));
+        headers.add("other", bytes("value"));
+        headers.add("id", bytes("last"));
+
+        var json = new JSONObject(RecordHeadersEncoder.toJson(headers));
+
+        assertEquals(2, json.length());
+        assertEquals("last", json.getString("id"));
+        assertEquals("value", json.getString("other"));
+    }
+
+    @Test
+    void escapesKeysAndValues() {
+        var headers = new RecordHeaders();
+        headers.add("quo\"te", bytes("line\nbreak\t\"\\\u0001"));
+        headers.add("unicode", bytes("שלום ✓"));
+        headers.add("empty", null);
+
+        var json = new JSONObject(RecordHeadersEncoder.toJson(headers));
+
+        assertEquals("line\nbreak\t\"\\\u0001", json.getString("quo\"te"));
+        assertEquals("שלום ✓", json.getString("unicode"));
+        assertEquals(JSONObject.NULL, json.get("empty"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
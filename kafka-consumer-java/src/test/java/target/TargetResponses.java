@@ -0,0 +1,10 @@
+package target;
+
+import java.util.OptionalLong;
+
+public class TargetResponses {
+
+    public static TargetResponse of(int statusCode) {
+        return new TargetResponse(statusCode, OptionalLong.empty(), OptionalLong.empty());
+    }
+}
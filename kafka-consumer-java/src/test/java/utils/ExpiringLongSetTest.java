@@ -0,0 +1,96 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringLongSetTest {
+
+    @Test
+    void containsAddedValues() {
+        var set = new ExpiringLongSet(4000, 60000);
+
+        for (var value = -1000L; value < 1000; value++) {
+            set.add(value * 7919);
+        }
+
+        for (var value = -1000L; value < 1000; value++) {
+            assertTrue(set.contains(value * 7919));
+            assertFalse(set.contains(value * 7919 + 1));
+        }
+        assertEquals(2000, set.size());
+    }
+
+    @Test
+    void containsZero() {
+        var set = new ExpiringLongSet(10, 60000);
+
+        assertFalse(set.contains(0));
+        set.add(0);
+
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void countsDuplicatesOnce() {
+        var set = new ExpiringLongSet(10, 60000);
+
+        set.add(1);
+        set.add(1);
+
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void evictsOldestGenerationWhenFull() {
+        var set = new ExpiringLongSet(4, 60000);
+
+        set.add(1);
+        set.add(2);
+        set.add(3);
+        set.add(4);
+        assertTrue(set.contains(1));
+        assertEquals(4, set.size());
+
+        set.add(5);
+
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(2));
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(5));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void keepsValueFromPreviousGenerationWithoutReadding() {
+        var set = new ExpiringLongSet(4, 60000);
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        set.add(1);
+
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void expiresValuesAfterTtl() throws Exception {
+        var set = new ExpiringLongSet(10, 400);
+        set.add(1);
+
+        Thread.sleep(220);
+        assertTrue(set.contains(1));
+        set.add(2);
+
+        Thread.sleep(220);
+        assertFalse(set.contains(1));
+        assertTrue(set.contains(2));
+
+        Thread.sleep(500);
+        assertFalse(set.contains(2));
+        assertEquals(0, set.size());
+    }
+}
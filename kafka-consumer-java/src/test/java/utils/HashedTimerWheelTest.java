@@ -0,0 +1,87 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HashedTimerWheelTest {
+    private static final long TICK = 5;
+    private static final int SIZE = 4;
+
+    private final HashedTimerWheel wheel = new HashedTimerWheel("test-timer-wheel", TICK, SIZE, Runnable::run);
+
+    @Test
+    void runsZeroDelayImmediately() throws Exception {
+        var thread = new CompletableFuture<Thread>();
+
+        wheel.schedule(() -> thread.complete(Thread.currentThread()), 0, TimeUnit.MILLISECONDS);
+
+        assertEquals(Thread.currentThread(), thread.getNow(null));
+    }
+
+    @Test
+    void waitsForDelayWithinSingleRotation() throws Exception {
+        assertElapsedAtLeast(3 * TICK);
+    }
+
+    @Test
+    void waitsExtraRoundsForDelayBeyondRotation() throws Exception {
+        assertElapsedAtLeast(10 * SIZE * TICK + 2 * TICK);
+    }
+
+    @Test
+    void firesTimeoutsSharingBucketInRoundOrder() throws Exception {
+        var fired = new ConcurrentLinkedQueue<Long>();
+        var done = new CompletableFuture<Void>();
+        var rotation = SIZE * TICK;
+        var delays = List.of(3 * rotation + TICK, rotation + TICK, 2 * rotation + TICK);
+
+        for (var delay : delays) {
+            wheel.schedule(
+                () -> {
+                    fired.add(delay);
+                    if (fired.size() == delays.size()) {
+                        done.complete(null);
+                    }
+                    return null;
+                },
+                delay,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(rotation + TICK, 2 * rotation + TICK, 3 * rotation + TICK), List.copyOf(fired));
+    }
+
+    @Test
+    void skipsCancelledTimeouts() throws Exception {
+        var cancelled = new CompletableFuture<Void>();
+        var fired = new CompletableFuture<Void>();
+
+        var timeout = wheel.schedule(() -> cancelled.complete(null), 2 * SIZE * TICK, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel(false));
+        wheel.schedule(() -> fired.complete(null), 4 * SIZE * TICK, TimeUnit.MILLISECONDS);
+
+        fired.get(5, TimeUnit.SECONDS);
+        assertTrue(timeout.isCancelled());
+        assertFalse(cancelled.isDone());
+    }
+
+    private void assertElapsedAtLeast(long delay) throws Exception {
+        var start = System.nanoTime();
+        var fired = new CompletableFuture<Long>();
+
+        wheel.schedule(() -> fired.complete(System.nanoTime()), delay, TimeUnit.MILLISECONDS);
+
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(fired.get(5, TimeUnit.SECONDS) - start);
+        assertTrue(elapsed >= delay, "fired after " + elapsed + "ms, expected at least " + delay + "ms");
+        assertTrue(elapsed < delay + 1000, "fired after " + elapsed + "ms, expected about " + delay + "ms");
+    }
+}
@@ -0,0 +1,118 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSegmentLogTest {
+    private static final int SEGMENT_BYTES = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackAppendedPayloads() throws Exception {
+        var log = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+
+        var first = log.append(payload("first"));
+        var second = log.append(payload("second"));
+
+        assertArrayEquals(payload("first"), log.read(first));
+        assertArrayEquals(payload("second"), log.read(second));
+        assertEquals(11, log.pendingBytes());
+        log.complete(first);
+        assertEquals(6, log.pendingBytes());
+    }
+
+    @Test
+    void writesAppendThroughToSegmentFile() throws Exception {
+        var log = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+
+        var entry = log.append(payload("forced"));
+
+        var file = ByteBuffer.wrap(Files.readAllBytes(segmentFiles().get(0)));
+        assertEquals(6, file.getInt(0));
+        assertEquals(1, file.get(4));
+        assertEquals("forced", new String(file.array(), 5, 6, StandardCharsets.UTF_8));
+        log.complete(entry);
+        assertEquals(2, Files.readAllBytes(segmentFiles().get(0))[4]);
+    }
+
+    @Test
+    void rollsSegmentsAndDeletesCompletedOnes() throws Exception {
+        var log = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+
+        var first = log.append(new byte[25]);
+        var second = log.append(new byte[25]);
+        var third = log.append(new byte[25]);
+
+        assertEquals(List.of("00000000000000000000.segment", "00000000000000000001.segment"), segmentNames());
+        log.complete(second);
+        assertEquals(2, segmentFiles().size());
+        log.complete(first);
+        assertEquals(List.of("00000000000000000001.segment"), segmentNames());
+        assertNotNull(third);
+    }
+
+    @Test
+    void rejectsAppendsPastCapacity() throws Exception {
+        var log = new MappedSegmentLog(directory, SEGMENT_BYTES, 2 * SEGMENT_BYTES);
+
+        assertNull(log.append(new byte[SEGMENT_BYTES]));
+        assertNotNull(log.append(new byte[50]));
+        assertNotNull(log.append(new byte[50]));
+        assertNull(log.append(new byte[50]));
+    }
+
+    @Test
+    void recoversPendingEntriesAfterRestart() throws Exception {
+        var log = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+        log.append(payload("one"));
+        log.complete(log.append(payload("two")));
+        log.append(payload("three"));
+
+        var restarted = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+        var recovered = restarted.recovered();
+
+        assertEquals(List.of("one", "three"), read(restarted, recovered));
+        assertEquals(8, restarted.pendingBytes());
+        assertEquals(List.of(), restarted.recovered());
+
+        restarted.append(payload("four"));
+        restarted.complete(recovered.get(0));
+        var again = new MappedSegmentLog(directory, SEGMENT_BYTES, 1024);
+        assertEquals(List.of("three", "four"), read(again, again.recovered()));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<String> segmentNames() throws IOException {
+        return segmentFiles().stream().map(file -> file.getFileName().toString()).collect(Collectors.toList());
+    }
+
+    private static List<String> read(MappedSegmentLog log, List<MappedSegmentLog.Entry> entries) {
+        return entries
+            .stream()
+            .map(entry -> new String(log.read(entry), StandardCharsets.UTF_8))
+            .collect(Collectors.toList());
+    }
+
+    private static byte[] payload(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    void neverWaitsWithoutRate() {
+        var bucket = new TokenBucket(0, 1000);
+
+        for (var i = 0; i < 1000; i++) {
+            assertEquals(0, bucket.reserve(1000));
+        }
+    }
+
+    @Test
+    void allowsBurstThenWaitsForRefill() {
+        var bucket = new TokenBucket(10, 1000);
+
+        for (var i = 0; i < 10; i++) {
+            assertEquals(0, bucket.reserve(1));
+        }
+        var waitNanos = bucket.reserve(1);
+
+        assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(90), "waited " + waitNanos + "ns");
+        assertTrue(waitNanos <= TimeUnit.MILLISECONDS.toNanos(100), "waited " + waitNanos + "ns");
+    }
+
+    @Test
+    void accumulatesWaitAcrossReservations() {
+        var bucket = new TokenBucket(10, 100);
+
+        bucket.reserve(1);
+        var first = bucket.reserve(1);
+        var second = bucket.reserve(1);
+
+        assertTrue(second - first > TimeUnit.MILLISECONDS.toNanos(90), "waited " + (second - first) + "ns");
+    }
+
+    @Test
+    void refillsOverTime() throws Exception {
+        var bucket = new TokenBucket(100, 50);
+        bucket.reserve(5);
+
+        Thread.sleep(100);
+
+        assertEquals(0, bucket.reserve(5));
+    }
+
+    @Test
+    void keepsAtLeastOneTokenOfCapacity() {
+        var bucket = new TokenBucket(1, 10);
+
+        assertEquals(0, bucket.reserve(1));
+        assertTrue(bucket.reserve(1) > 0);
+    }
+
+    @Test
+    void shrinksTokensToNewCapacity() {
+        var bucket = new TokenBucket(100, 1000);
+
+        bucket.setRate(10, 100);
+
+        assertEquals(10, bucket.getRate());
+        assertEquals(0, bucket.reserve(1));
+        assertTrue(bucket.reserve(1) > 0);
+    }
+}
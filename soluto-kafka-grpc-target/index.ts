@@ -19,29 +19,65 @@ const packageDefinition = loadSync(PROTO_PATH, {
 });
 const ProtobufMessage = loadPackageDefinition(packageDefinition) as ProtobufMessage;
 
-const _callTarget = (run: any) => async (call: any, callback: any) => {
+const _toRecordHeaders = (headers: {[key: string]: Buffer} | undefined) =>
+    headers && Object.keys(headers).length > 0
+        ? Object.keys(headers).reduce((result, key) => ({...result, [key]: headers[key].toString()}), {})
+        : undefined;
+
+const _execute = async (run: any, request: any) => {
     try {
         const receivedTimestamp = Date.now();
-        const payload = JSON.parse(call.request.msgJson);
+        const payload =
+            request.msgBytes && request.msgBytes.length > 0 ? request.msgBytes : JSON.parse(request.msgJson);
         await run({
             payload,
             headers: {
-                recordOffset: parseInt(call.request.recordOffset) || -1,
-                recordTimestamp: parseInt(call.request.recordTimestamp) || -1,
-                topic: call.request.topic,
-                recordHeaders: call.request.headersJson ? JSON.parse(call.request.headersJson) : undefined,
+                recordOffset: parseInt(request.recordOffset) || -1,
+                recordTimestamp: parseInt(request.recordTimestamp) || -1,
+                topic: request.topic,
+                recordHeaders: request.headersJson
+                    ? JSON.parse(request.headersJson)
+                    : _toRecordHeaders(request.headers),
             },
         });
-        callback(null, {statusCode: 200, receivedTimestamp, completedTimestamp: Date.now()});
+        return {statusCode: 200, receivedTimestamp, completedTimestamp: Date.now()};
     } catch (e) {
-        callback(null, {statusCode: e.statusCode ?? e.status ?? 500});
+        return {statusCode: e.statusCode ?? e.status ?? 500};
+    }
+};
+
+const _callTarget = (run: any) => async (call: any, callback: any) => {
+    callback(null, await _execute(run, call.request));
+};
+
+const _callTargetBatch = (run: any) => async (call: any, callback: any) => {
+    const responses = [];
+    for (const request of call.request.payloads) {
+        responses.push(await _execute(run, request));
     }
+    callback(null, {responses});
+};
+
+const _callTargetStream = (run: any) => (call: any) => {
+    call.on('data', async (request: any) => {
+        const response = await _execute(run, request);
+        call.write({
+            ...response,
+            recordOffset: request.recordOffset,
+            recordPartition: request.recordPartition,
+            topic: request.topic,
+            sequence: request.sequence,
+        });
+    });
+    call.on('end', () => call.end());
 };
 
 const getServer = (execute: any) => {
     const server = new Server();
     server.addService(ProtobufMessage.CallTarget.service, {
         callTarget: _callTarget(execute),
+        callTargetBatch: _callTargetBatch(execute),
+        callTargetStream: _callTargetStream(execute),
     });
     return server;
 };
@@ -16,7 +16,9 @@ const fakeHttpServer = new Server({
 
 describe('tests', () => {
     beforeAll(async () => {
-        await expect(checkReadiness(['foo', 'bar', 'retry', 'dead-letter', 'unexpected'])).resolves.toBeTruthy();
+        await expect(
+            checkReadiness(['foo', 'bar', 'retry', 'dead-letter', 'unexpected', 'throttled'])
+        ).resolves.toBeTruthy();
     });
 
     beforeEach(async () => {
@@ -106,6 +108,33 @@ describe('tests', () => {
         expect(madeCalls[0].headers['x-record-original-topic']).toEqual('foo');
     });
 
+    it('consumer should produce to dead letter topic when target response is 429', async () => {
+        const callId = await mockHttpTarget('/consume', 429);
+        const deadLetterCallId = await mockHttpTarget('/deadLetter', 200);
+
+        await produce('http://localhost:6000/produce', [{topic: 'foo', key: uuid(), value: {data: 'foo'}}]);
+        await delay(5000);
+
+        const {madeCalls} = await fakeHttpServer.getCall(callId);
+        expect(madeCalls.length).toBe(1);
+        const {hasBeenMade} = await fakeHttpServer.getCall(deadLetterCallId);
+        expect(hasBeenMade).toBeTruthy();
+    });
+
+    it('backpressure consumer should re-send on 429 and then produce to dead letter topic', async () => {
+        const callId = await mockHttpTarget('/throttled', 429);
+        const deadLetterCallId = await mockHttpTarget('/deadLetter', 200);
+
+        await produce('http://localhost:6000/produce', [{topic: 'throttled', key: uuid(), value: {data: 'throttled'}}]);
+        await delay(5000);
+
+        const {madeCalls} = await fakeHttpServer.getCall(callId);
+        expect(madeCalls.length).toBe(4);
+        const {hasBeenMade, madeCalls: deadLetterCalls} = await fakeHttpServer.getCall(deadLetterCallId);
+        expect(hasBeenMade).toBeTruthy();
+        expect(deadLetterCalls[0].headers['x-record-original-topic']).toEqual('throttled');
+    });
+
     it('consumer should terminate on an unexpected error', async () => {
         await delay(1000);
         let consumerLiveliness = await fetch('http://localhost:4002/isAlive');